@@ -0,0 +1,217 @@
+package com.news.retrieval.cache;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.dto.TrendingArticleResponse;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary layout for trending lists: a one-byte format tag, then a varint
+ * count followed by each article's fields. Strings are varint-length-prefixed UTF-8
+ * with length 0 meaning {@code null}. Payloads above the configured threshold are
+ * LZ4 compressed when that actually makes them smaller.
+ */
+@Component
+@ConditionalOnProperty(prefix = "news.cache", name = "codec", havingValue = "binary", matchIfMissing = true)
+public class BinaryTrendingArticleCodec implements CacheValueCodec<TrendingArticleResponse> {
+
+    private static final byte FORMAT_RAW = 0x11;
+    private static final byte FORMAT_LZ4 = 0x12;
+
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public BinaryTrendingArticleCodec(NewsProperties newsProperties) {
+        this.compressionEnabled = newsProperties.getCache().isCompressionEnabled();
+        this.compressionThreshold = newsProperties.getCache().getCompressionThresholdBytes();
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] encode(List<TrendingArticleResponse> values) {
+        Writer writer = new Writer();
+        writer.varint(values.size());
+        for (TrendingArticleResponse article : values) {
+            writer.string(article.getTitle());
+            writer.string(article.getDescription());
+            writer.string(article.getUrl());
+            writer.dateTime(article.getPublicationDate());
+            writer.string(article.getSourceName());
+            List<String> categories = article.getCategory();
+            writer.varint(categories == null ? 0 : categories.size() + 1);
+            if (categories != null) {
+                categories.forEach(writer::string);
+            }
+            writer.doubleValue(article.getTrendingScore());
+        }
+
+        byte[] payload = writer.toByteArray();
+        if (compressionEnabled && payload.length >= compressionThreshold) {
+            byte[] compressed = compress(payload);
+            if (compressed.length < payload.length) {
+                return compressed;
+            }
+        }
+        byte[] raw = new byte[payload.length + 1];
+        raw[0] = FORMAT_RAW;
+        System.arraycopy(payload, 0, raw, 1, payload.length);
+        return raw;
+    }
+
+    @Override
+    public List<TrendingArticleResponse> decode(byte[] bytes) {
+        try {
+            ByteBuffer buffer = switch (bytes.length == 0 ? 0 : bytes[0]) {
+                case FORMAT_RAW -> ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+                case FORMAT_LZ4 -> ByteBuffer.wrap(decompress(bytes));
+                default -> throw new IllegalArgumentException("Unrecognised trending list payload");
+            };
+
+            int count = varint(buffer);
+            List<TrendingArticleResponse> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                TrendingArticleResponse.TrendingArticleResponseBuilder article = TrendingArticleResponse.builder()
+                        .title(string(buffer))
+                        .description(string(buffer))
+                        .url(string(buffer))
+                        .publicationDate(dateTime(buffer))
+                        .sourceName(string(buffer));
+                int categoryCount = varint(buffer) - 1;
+                if (categoryCount >= 0) {
+                    List<String> categories = new ArrayList<>(categoryCount);
+                    for (int c = 0; c < categoryCount; c++) {
+                        categories.add(string(buffer));
+                    }
+                    article.category(categories);
+                }
+                values.add(article.trendingScore(buffer.getDouble()).build());
+            }
+            return values;
+        } catch (BufferUnderflowException | LZ4Exception e) {
+            throw new IllegalArgumentException("Truncated trending list payload", e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return compressionEnabled ? "binary+lz4" : "binary";
+    }
+
+    private byte[] compress(byte[] payload) {
+        int maxLength = compressor.maxCompressedLength(payload.length);
+        byte[] out = new byte[5 + maxLength];
+        out[0] = FORMAT_LZ4;
+        ByteBuffer.wrap(out, 1, 4).putInt(payload.length);
+        int length = compressor.compress(payload, 0, payload.length, out, 5, maxLength);
+        byte[] trimmed = new byte[5 + length];
+        System.arraycopy(out, 0, trimmed, 0, trimmed.length);
+        return trimmed;
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        int length = ByteBuffer.wrap(bytes, 1, 4).getInt();
+        byte[] payload = new byte[length];
+        decompressor.decompress(bytes, 5, payload, 0, length);
+        return payload;
+    }
+
+    private static int varint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in trending list payload");
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = varint(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("Truncated trending list payload");
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static LocalDateTime dateTime(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+
+    private static final class Writer extends ByteArrayOutputStream {
+
+        Writer() {
+            super(256);
+        }
+
+        void varint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length + 1);
+            write(utf8, 0, utf8.length);
+        }
+
+        void dateTime(LocalDateTime value) {
+            if (value == null) {
+                write(0);
+                return;
+            }
+            write(1);
+            longValue(value.toEpochSecond(ZoneOffset.UTC));
+            intValue(value.getNano());
+        }
+
+        void doubleValue(double value) {
+            longValue(Double.doubleToRawLongBits(value));
+        }
+
+        private void longValue(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        private void intValue(int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                write(value >>> shift);
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.news.retrieval.cache;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 
 public interface CacheService<T> {
@@ -11,13 +14,39 @@ public interface CacheService<T> {
 
     Optional<List<T>> getList(String key);
 
+    Map<String, List<T>> getLists(Collection<String> keys);
+
+    /**
+     * Reads the lists for {@code keys} and fills misses through {@code loader}, with at most one
+     * load per key in flight at a time. Hits that are close to expiry are refreshed in the background.
+     */
+    Map<String, List<T>> getListsOrLoad(Collection<String> keys,
+                                        Function<Collection<String>, Map<String, List<T>>> loader,
+                                        Duration ttl);
+
+    /**
+     * Merges the lists of {@code keys} by summing scores per item and returns the top {@code limit},
+     * filling misses through {@code loader}. Empty when the backend cannot merge on the server.
+     */
+    default Optional<List<T>> unionTopK(Collection<String> keys, int limit,
+                                        Function<Collection<String>, Map<String, List<T>>> loader,
+                                        Duration ttl) {
+        return Optional.empty();
+    }
+
     void put(String key, T value, Duration ttl);
 
+    void putLists(Map<String, List<T>> values, Duration ttl);
+
     void evict(String key);
 
+    void evictAll(Collection<String> keys);
+
     boolean acquireLock(String lockKey, Duration lockTimeout);
 
     void releaseLock(String lockKey);
 
     boolean updateWithLock(String value, List<T> values, Duration ttl);
+
+    Map<String, Object> stats();
 }
@@ -0,0 +1,17 @@
+package com.news.retrieval.cache;
+
+import java.util.List;
+
+/**
+ * Encodes cached lists to the bytes stored in Redis and decodes them straight back
+ * into typed values. {@link #decode} throws {@link IllegalArgumentException} for
+ * payloads it does not recognise, which callers treat as a cache miss.
+ */
+public interface CacheValueCodec<T> {
+
+    byte[] encode(List<T> values);
+
+    List<T> decode(byte[] bytes);
+
+    String name();
+}
@@ -8,6 +8,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -20,12 +22,14 @@ public class CategoryCacheService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final CategoryRepository categoryRepository;
+    private final LocalCacheTier localCacheTier;
 
     @PostConstruct
     public void initializeCache() {
         Set<String> categories = categoryRepository.findAllCategoryNames();
         if (!categories.isEmpty()) {
             redisTemplate.opsForSet().add(CATEGORIES_CACHE_KEY, categories.toArray());
+            localCacheTier.invalidate(List.of(CATEGORIES_CACHE_KEY));
             log.info("Initialized category cache with {} categories from database", categories.size());
         } else {
             log.info("No categories found in database during initialization");
@@ -33,12 +37,18 @@ public class CategoryCacheService {
     }
 
     public Set<String> getAllCategories() {
+        Optional<Object> local = localCacheTier.get(CATEGORIES_CACHE_KEY);
+        if (local.isPresent()) {
+            return (Set<String>) local.get();
+        }
         try {
             Set<Object> cached = redisTemplate.opsForSet().members(CATEGORIES_CACHE_KEY);
             if (cached != null && !cached.isEmpty()) {
-                return cached.stream()
+                Set<String> categories = cached.stream()
                         .map(Object::toString)
-                        .collect(Collectors.toSet());
+                        .collect(Collectors.toUnmodifiableSet());
+                localCacheTier.put(CATEGORIES_CACHE_KEY, categories);
+                return categories;
             }
             
             Set<String> dbCategories = categoryRepository.findAllCategoryNames();
@@ -67,6 +77,7 @@ public class CategoryCacheService {
             
             if (!normalizedCategories.isEmpty()) {
                 redisTemplate.opsForSet().add(CATEGORIES_CACHE_KEY, normalizedCategories.toArray());
+                localCacheTier.invalidate(List.of(CATEGORIES_CACHE_KEY));
                 log.debug("Merged {} new categories into cache", normalizedCategories.size());
             }
         } catch (Exception e) {
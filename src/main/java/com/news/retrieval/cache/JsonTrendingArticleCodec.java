@@ -0,0 +1,49 @@
+package com.news.retrieval.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.news.retrieval.dto.TrendingArticleResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Plain JSON arrays without type metadata, read directly into {@link TrendingArticleResponse}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "news.cache", name = "codec", havingValue = "json")
+public class JsonTrendingArticleCodec implements CacheValueCodec<TrendingArticleResponse> {
+
+    private final ObjectMapper objectMapper;
+    private final JavaType listType;
+
+    public JsonTrendingArticleCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.listType = objectMapper.getTypeFactory().constructCollectionType(List.class, TrendingArticleResponse.class);
+    }
+
+    @Override
+    public byte[] encode(List<TrendingArticleResponse> values) {
+        try {
+            return objectMapper.writeValueAsBytes(values);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to encode trending list", e);
+        }
+    }
+
+    @Override
+    public List<TrendingArticleResponse> decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, listType);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unrecognised trending list payload", e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+}
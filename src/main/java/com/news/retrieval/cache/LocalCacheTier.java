@@ -0,0 +1,113 @@
+package com.news.retrieval.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.news.retrieval.config.NewsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded in-JVM tier in front of Redis. Entries expire after a short TTL and are
+ * dropped on every node when any node writes the same key, via a Redis pub/sub
+ * invalidation channel.
+ */
+@Component
+@Slf4j
+public class LocalCacheTier implements MessageListener {
+
+    private static final String SEPARATOR = "\n";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NewsProperties.Cache.Local properties;
+    private final String channel;
+    private final Cache<String, Object> cache;
+
+    public LocalCacheTier(StringRedisTemplate stringRedisTemplate, NewsProperties newsProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = newsProperties.getCache().getLocal();
+        this.channel = newsProperties.getCache().getInvalidationChannel();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .recordStats()
+                .build();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public Optional<Object> get(String key) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(String key, Object value) {
+        if (properties.isEnabled() && value != null) {
+            cache.put(key, value);
+        }
+    }
+
+    /**
+     * Stores freshly written values locally and tells the other nodes to drop
+     * their copies of the same keys.
+     */
+    public void putAndBroadcast(Map<String, ?> values) {
+        values.forEach(this::put);
+        publish(values.keySet());
+    }
+
+    public void invalidate(Collection<String> keys) {
+        cache.invalidateAll(keys);
+        publish(keys);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        cache.invalidateAll(List.of(parts).subList(1, parts.length));
+        log.debug("Invalidated {} local cache keys from node={}", parts.length - 1, parts[0]);
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", properties.isEnabled());
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hit_ratio", stats.requestCount() == 0 ? 0.0 : stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    private void publish(Collection<String> keys) {
+        if (!properties.isEnabled() || keys.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(channel, nodeId + SEPARATOR + String.join(SEPARATOR, keys));
+        } catch (Exception e) {
+            log.error("Error publishing invalidation for {} keys: {}", keys.size(), e.getMessage());
+        }
+    }
+}
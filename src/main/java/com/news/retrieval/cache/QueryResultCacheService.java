@@ -0,0 +1,132 @@
+package com.news.retrieval.cache;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.model.NewsArticle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Caches the ranked article ids of the category, source, score and search lookups, and the LLM
+ * summaries per article. Id keys embed a data version bumped on every ingest, so a new load
+ * moves readers onto fresh keys and the old entries simply expire. Summary keys embed a hash
+ * of the title and description, so an article re-ingested with new text gets a new summary.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QueryResultCacheService {
+
+    private static final String VERSION_KEY = "query:version";
+    private static final String IDS_KEY_PREFIX = "query:ids:";
+    private static final String SUMMARY_KEY_PREFIX = "query:summary:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NewsProperties newsProperties;
+
+    public boolean isEnabled() {
+        return newsProperties.getCache().getQueryResults().isEnabled();
+    }
+
+    /**
+     * Builds the id key for the current data version. Callers resolve the key once, before
+     * loading, so results computed across an ingest land under the version they were read from.
+     * Empty when the version cannot be read.
+     */
+    public Optional<String> idsKey(String intent, String param, int limit) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+            return Optional.of(IDS_KEY_PREFIX + "v" + (version != null ? version : "0") + ":"
+                    + intent + ":" + normalize(param) + ":" + limit);
+        } catch (Exception e) {
+            log.warn("Error reading query result data version: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<List<String>> getArticleIds(String key) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached instanceof List<?> ids) {
+                return Optional.of(ids.stream().map(Object::toString).toList());
+            }
+        } catch (Exception e) {
+            log.warn("Error reading query result ids for key {}: {}", key, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    public void putArticleIds(String key, List<String> articleIds) {
+        try {
+            redisTemplate.opsForValue().set(key, new ArrayList<>(articleIds),
+                    Duration.ofSeconds(newsProperties.getCache().getQueryResults().getIdsTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("Error caching query result ids for key {}: {}", key, e.getMessage());
+        }
+    }
+
+    public Map<String, String> getSummaries(Collection<NewsArticle> articles) {
+        Map<String, String> summaries = new HashMap<>();
+        if (articles.isEmpty()) {
+            return summaries;
+        }
+        try {
+            List<NewsArticle> ordered = new ArrayList<>(articles);
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(ordered.stream().map(QueryResultCacheService::summaryKey).toList());
+            if (values != null) {
+                for (int i = 0; i < ordered.size(); i++) {
+                    if (values.get(i) != null) {
+                        summaries.put(ordered.get(i).getId(), values.get(i));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Error reading cached summaries: {}", e.getMessage());
+        }
+        return summaries;
+    }
+
+    public void putSummary(NewsArticle article, String summary) {
+        try {
+            stringRedisTemplate.opsForValue().set(summaryKey(article), summary,
+                    Duration.ofSeconds(newsProperties.getCache().getQueryResults().getSummaryTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("Error caching summary for article {}: {}", article.getId(), e.getMessage());
+        }
+    }
+
+    public void bumpDataVersion() {
+        try {
+            Long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+            log.info("Query result cache moved to data version {}", version);
+        } catch (Exception e) {
+            log.error("Error bumping query result data version: {}", e.getMessage());
+        }
+    }
+
+    private static String summaryKey(NewsArticle article) {
+        String content = Objects.toString(article.getTitle(), "") + "\n" + Objects.toString(article.getDescription(), "");
+        return SUMMARY_KEY_PREFIX + article.getId() + ":"
+                + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String normalize(String param) {
+        return param.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
@@ -1,85 +1,321 @@
 package com.news.retrieval.cache;
 
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.dto.TrendingArticleResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 
 @Service
+@ConditionalOnProperty(prefix = "news.cache", name = "backend", havingValue = "blob", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
-public class RedisCacheService implements CacheService<Object> {
+public class RedisCacheService implements CacheService<TrendingArticleResponse> {
 
     private static final String CACHE_KEY_PREFIX = "trending:";
     private static final String LOCK_KEY_PREFIX = "trending:lock:";
 
     private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(2);
+    private static final int REFRESH_QUEUE_CAPACITY = 1000;
 
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheValueCodec<TrendingArticleResponse> codec;
+    private final LocalCacheTier localCacheTier;
+    private final NewsProperties newsProperties;
     private final ThreadLocal<String> lockValueHolder = new ThreadLocal<>();
+    private final SingleFlight<List<TrendingArticleResponse>> singleFlight = new SingleFlight<>();
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong redisMisses = new AtomicLong();
+    private final AtomicLong earlyRefreshes = new AtomicLong();
+    private final AtomicLong decodeFailures = new AtomicLong();
+    private volatile double loadMillis;
+    private ThreadPoolExecutor refreshExecutor;
+
+    @PostConstruct
+    public void startRefreshExecutor() {
+        int threads = Math.max(1, newsProperties.getCache().getRefreshThreads());
+        refreshExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY));
+    }
+
+    @PreDestroy
+    public void shutdownRefreshExecutor() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Override
+    public Optional<TrendingArticleResponse> get(String key) {
+        return readList(key).map(List::getFirst);
+    }
+
+    @Override
+    public Optional<List<TrendingArticleResponse>> getList(String key) {
+        return readList(CACHE_KEY_PREFIX + key);
+    }
 
     @Override
-    public Optional<Object> get(String key) {
+    public Map<String, List<TrendingArticleResponse>> getLists(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<TrendingArticleResponse>> result = new HashMap<>();
+        List<String> remoteKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Optional<List<TrendingArticleResponse>> local = localList(CACHE_KEY_PREFIX + key);
+            if (local.isPresent()) {
+                result.put(key, local.get());
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return result;
+        }
+
+        List<String> cacheKeys = remoteKeys.stream()
+                .map(key -> CACHE_KEY_PREFIX + key)
+                .toList();
         try {
-            Object value = redisTemplate.opsForValue().get(key);
-            return Optional.ofNullable(value);
+            List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(cacheKeys);
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < remoteKeys.size(); i++) {
+                List<TrendingArticleResponse> list = decode(cacheKeys.get(i), values.get(i));
+                recordRedisLookup(list != null);
+                if (list != null) {
+                    localCacheTier.put(cacheKeys.get(i), list);
+                    result.put(remoteKeys.get(i), list);
+                }
+            }
+            return result;
         } catch (Exception e) {
-            log.error("Error retrieving cache key={}: {}", key, e.getMessage());
-            return Optional.empty();
+            log.error("Error retrieving {} cache lists: {}", keys.size(), e.getMessage());
+            return result;
         }
     }
 
     @Override
-    public Optional<List<Object>> getList(String key) {
-        String cahceKey = CACHE_KEY_PREFIX + key;
+    public Map<String, List<TrendingArticleResponse>> getListsOrLoad(
+            Collection<String> keys,
+            Function<Collection<String>, Map<String, List<TrendingArticleResponse>>> loader,
+            Duration ttl) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<TrendingArticleResponse>> result = new HashMap<>();
+        List<String> remoteKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Optional<List<TrendingArticleResponse>> local = localList(CACHE_KEY_PREFIX + key);
+            if (local.isPresent()) {
+                result.put(key, local.get());
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+
+        List<String> misses = new ArrayList<>();
+        List<String> dueForRefresh = new ArrayList<>();
+        if (!remoteKeys.isEmpty()) {
+            readWithTtl(remoteKeys, result, misses, dueForRefresh);
+        }
+        if (!dueForRefresh.isEmpty()) {
+            scheduleRefresh(dueForRefresh, loader, ttl);
+        }
+        if (!misses.isEmpty()) {
+            result.putAll(load(misses, loader, ttl));
+        }
+        return result;
+    }
+
+    /**
+     * Reads values and remaining TTLs in one pipeline. Hits are flagged for early refresh
+     * with the XFetch rule: refresh when {@code loadTime * beta * -ln(rand) >= remainingTtl},
+     * so the probability rises as expiry approaches and with the cost of reloading.
+     */
+    private void readWithTtl(List<String> keys, Map<String, List<TrendingArticleResponse>> result,
+                             List<String> misses, List<String> dueForRefresh) {
         try {
-            Object value = redisTemplate.opsForValue().get(cahceKey);
-            if (value instanceof List<?> list && !list.isEmpty()) {
-                return Optional.of((List<Object>) list);
+            List<Object> replies = binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    byte[] rawKey = rawKey(CACHE_KEY_PREFIX + key);
+                    connection.stringCommands().get(rawKey);
+                    connection.keyCommands().pTtl(rawKey);
+                }
+                return null;
+            });
+
+            double beta = newsProperties.getCache().getEarlyRefreshBeta();
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                List<TrendingArticleResponse> list = replies.get(2 * i) instanceof byte[] bytes
+                        ? decode(CACHE_KEY_PREFIX + key, bytes)
+                        : null;
+                if (list != null) {
+                    recordRedisLookup(true);
+                    localCacheTier.put(CACHE_KEY_PREFIX + key, list);
+                    result.put(key, list);
+                    if (replies.get(2 * i + 1) instanceof Long remainingMs && shouldRefreshEarly(remainingMs, beta)) {
+                        dueForRefresh.add(key);
+                    }
+                } else {
+                    recordRedisLookup(false);
+                    misses.add(key);
+                }
             }
-            return Optional.empty();
         } catch (Exception e) {
-            log.error("Error retrieving cache list key={}: {}", key, e.getMessage());
-            return Optional.empty();
+            log.error("Error retrieving {} cache lists: {}", keys.size(), e.getMessage());
+            keys.stream().filter(key -> !result.containsKey(key)).forEach(misses::add);
+        }
+    }
+
+    private boolean shouldRefreshEarly(long remainingMs, double beta) {
+        if (remainingMs <= 0 || beta <= 0) {
+            return false;
+        }
+        double draw = -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return loadMillis * beta * draw >= remainingMs;
+    }
+
+    private Map<String, List<TrendingArticleResponse>> load(
+            Collection<String> keys,
+            Function<Collection<String>, Map<String, List<TrendingArticleResponse>>> loader,
+            Duration ttl) {
+        return singleFlight.load(keys, leaderKeys -> {
+            long start = System.nanoTime();
+            Map<String, List<TrendingArticleResponse>> loaded = loader.apply(leaderKeys);
+            double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+            loadMillis = loadMillis == 0 ? elapsedMs : 0.8 * loadMillis + 0.2 * elapsedMs;
+
+            putLists(loaded, ttl);
+            return loaded;
+        });
+    }
+
+    private void scheduleRefresh(List<String> keys,
+                                 Function<Collection<String>, Map<String, List<TrendingArticleResponse>>> loader,
+                                 Duration ttl) {
+        List<String> refreshKeys = keys.stream().filter(pendingRefreshes::add).toList();
+        if (refreshKeys.isEmpty()) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(refreshKeys, loader, ttl);
+                    earlyRefreshes.addAndGet(refreshKeys.size());
+                } catch (Exception e) {
+                    log.warn("Early refresh of {} cache lists failed: {}", refreshKeys.size(), e.getMessage());
+                } finally {
+                    refreshKeys.forEach(pendingRefreshes::remove);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshKeys.forEach(pendingRefreshes::remove);
+            log.debug("Refresh queue full, skipping early refresh of {} keys", refreshKeys.size());
         }
     }
 
     @Override
-    public void put(String key, Object value, Duration ttl) {
+    public void put(String key, TrendingArticleResponse value, Duration ttl) {
         try {
-            redisTemplate.opsForValue().set(key, value, ttl);
+            binaryRedisTemplate.opsForValue().set(key, codec.encode(List.of(value)), ttl);
+            localCacheTier.putAndBroadcast(Map.of(key, List.of(value)));
             log.debug("Cached value for key={} with TTL={}min", key, ttl.toMinutes());
         } catch (Exception e) {
             log.error("Error caching key={}: {}", key, e.getMessage());
         }
     }
 
+    @Override
+    public void putLists(Map<String, List<TrendingArticleResponse>> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Object> written = new HashMap<>();
+            binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, List<TrendingArticleResponse>> entry : values.entrySet()) {
+                    String cacheKey = CACHE_KEY_PREFIX + entry.getKey();
+                    connection.stringCommands().set(
+                            rawKey(cacheKey),
+                            codec.encode(entry.getValue()),
+                            Expiration.from(ttl),
+                            RedisStringCommands.SetOption.upsert());
+                    written.put(cacheKey, entry.getValue());
+                }
+                return null;
+            });
+            localCacheTier.putAndBroadcast(written);
+            log.debug("Cached {} lists in one pipeline with TTL={}min", values.size(), ttl.toMinutes());
+        } catch (Exception e) {
+            log.error("Error caching {} lists: {}", values.size(), e.getMessage());
+        }
+    }
 
     @Override
     public void evict(String key) {
         try {
-            redisTemplate.delete(key);
+            binaryRedisTemplate.delete(key);
+            localCacheTier.invalidate(List.of(key));
         } catch (Exception e) {
             log.error("Error evicting cache key={}: {}", key, e.getMessage());
         }
     }
 
+    @Override
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            binaryRedisTemplate.delete(keys);
+            localCacheTier.invalidate(keys);
+        } catch (Exception e) {
+            log.error("Error evicting {} cache keys: {}", keys.size(), e.getMessage());
+        }
+    }
+
     @Override
     public boolean acquireLock(String lockKey, Duration lockTimeout) {
         try {
             String fullLockKey = LOCK_KEY_PREFIX + lockKey;
             String lockValue = UUID.randomUUID().toString();
 
-            Boolean acquired = redisTemplate.opsForValue()
+            Boolean acquired = stringRedisTemplate.opsForValue()
                     .setIfAbsent(fullLockKey, lockValue, lockTimeout);
 
             if (Boolean.TRUE.equals(acquired)) {
@@ -101,9 +337,9 @@ public class RedisCacheService implements CacheService<Object> {
             String expectedValue = lockValueHolder.get();
 
             if (expectedValue != null) {
-                Object currentValue = redisTemplate.opsForValue().get(fullLockKey);
+                String currentValue = stringRedisTemplate.opsForValue().get(fullLockKey);
                 if (expectedValue.equals(currentValue)) {
-                    redisTemplate.delete(fullLockKey);
+                    stringRedisTemplate.delete(fullLockKey);
                     log.debug("Released lock for key={}", lockKey);
                 }
                 lockValueHolder.remove();
@@ -115,13 +351,14 @@ public class RedisCacheService implements CacheService<Object> {
 
 
     @Override
-    public boolean updateWithLock(String value, List<Object> values, Duration ttl) {
+    public boolean updateWithLock(String value, List<TrendingArticleResponse> values, Duration ttl) {
         String cacheKey = CACHE_KEY_PREFIX + value;
 
         try {
             if (acquireLock(value, LOCK_TIMEOUT)) {
                 try {
-                    redisTemplate.opsForValue().set(cacheKey, values, ttl);
+                    binaryRedisTemplate.opsForValue().set(cacheKey, codec.encode(values), ttl);
+                    localCacheTier.putAndBroadcast(Map.of(cacheKey, values));
                     log.debug("Updated cache key={} with lock, {} items, TTL={}min", cacheKey, values.size(), ttl.toMinutes());
                     return true;
                 } finally {
@@ -135,4 +372,72 @@ public class RedisCacheService implements CacheService<Object> {
             return false;
         }
     }
+
+    @Override
+    public Map<String, Object> stats() {
+        long hits = redisHits.get();
+        long misses = redisMisses.get();
+        Map<String, Object> redis = new LinkedHashMap<>();
+        redis.put("hits", hits);
+        redis.put("misses", misses);
+        redis.put("hit_ratio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        redis.put("codec", codec.name());
+        redis.put("decode_failures", decodeFailures.get());
+
+        Map<String, Object> loads = new LinkedHashMap<>();
+        loads.put("loaded", singleFlight.loadedCount());
+        loads.put("coalesced", singleFlight.coalescedCount());
+        loads.put("early_refreshes", earlyRefreshes.get());
+        loads.put("avg_load_ms", loadMillis);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("local", localCacheTier.stats());
+        result.put("redis", redis);
+        result.put("loads", loads);
+        return result;
+    }
+
+    private Optional<List<TrendingArticleResponse>> readList(String cacheKey) {
+        Optional<List<TrendingArticleResponse>> local = localList(cacheKey);
+        if (local.isPresent()) {
+            return local;
+        }
+        try {
+            List<TrendingArticleResponse> list = decode(cacheKey, binaryRedisTemplate.opsForValue().get(cacheKey));
+            recordRedisLookup(list != null);
+            if (list != null) {
+                localCacheTier.put(cacheKey, list);
+            }
+            return Optional.ofNullable(list);
+        } catch (Exception e) {
+            log.error("Error retrieving cache list key={}: {}", cacheKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<List<TrendingArticleResponse>> localList(String cacheKey) {
+        return localCacheTier.get(cacheKey).map(value -> (List<TrendingArticleResponse>) value);
+    }
+
+    private List<TrendingArticleResponse> decode(String cacheKey, byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            List<TrendingArticleResponse> list = codec.decode(bytes);
+            return list.isEmpty() ? null : list;
+        } catch (IllegalArgumentException e) {
+            decodeFailures.incrementAndGet();
+            log.debug("Treating undecodable cache value as a miss, key={}: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] rawKey(String cacheKey) {
+        return cacheKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void recordRedisLookup(boolean hit) {
+        (hit ? redisHits : redisMisses).incrementAndGet();
+    }
 }
@@ -0,0 +1,393 @@
+package com.news.retrieval.cache;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.dto.TrendingArticleResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Trending cache backend that keeps each cell as a sorted set of article URL to score
+ * and the article metadata in a shared hash. A radius query is answered on the server
+ * with ZUNIONSTORE + ZREVRANGE, so only the top-K members and their metadata cross the
+ * wire. The metadata hash is generational: writes go to the hash of the current TTL
+ * window and reads fall back to the previous one, so stale articles age out with it.
+ */
+@Service
+@ConditionalOnProperty(prefix = "news.cache", name = "backend", havingValue = "zset")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisZSetCacheService implements CacheService<TrendingArticleResponse> {
+
+    private static final String CELL_KEY_PREFIX = "trending:z:";
+    private static final String META_KEY_PREFIX = "trending:meta:";
+    private static final String UNION_KEY_PREFIX = "trending:union:";
+    private static final String LOCK_KEY_PREFIX = "trending:lock:";
+
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(2);
+
+    private static final RedisScript<List> MISSING_KEYS_SCRIPT = new DefaultRedisScript<>("""
+            local missing = {}
+            for _, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 0 then missing[#missing + 1] = key end
+            end
+            return missing
+            """, List.class);
+
+    private static final RedisScript<List> UNION_TOP_K_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+            local top = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+            redis.call('DEL', KEYS[1])
+            return top
+            """, List.class);
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheValueCodec<TrendingArticleResponse> codec;
+    private final NewsProperties newsProperties;
+    private final ThreadLocal<String> lockValueHolder = new ThreadLocal<>();
+    private final SingleFlight<List<TrendingArticleResponse>> singleFlight = new SingleFlight<>();
+
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong redisMisses = new AtomicLong();
+    private final AtomicLong unions = new AtomicLong();
+
+    @Override
+    public Optional<TrendingArticleResponse> get(String key) {
+        return getList(key).map(List::getFirst);
+    }
+
+    @Override
+    public Optional<List<TrendingArticleResponse>> getList(String key) {
+        return Optional.ofNullable(getLists(List.of(key)).get(key));
+    }
+
+    @Override
+    public Map<String, List<TrendingArticleResponse>> getLists(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<String> orderedKeys = List.copyOf(keys);
+        try {
+            List<Object> replies = binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : orderedKeys) {
+                    connection.zSetCommands().zRevRangeWithScores(raw(CELL_KEY_PREFIX + key), 0, -1);
+                }
+                return null;
+            });
+
+            Set<String> urls = new LinkedHashSet<>();
+            for (Object reply : replies) {
+                for (Tuple tuple : (Set<Tuple>) reply) {
+                    urls.add(new String(tuple.getValue(), StandardCharsets.UTF_8));
+                }
+            }
+            Map<String, byte[]> metadata = fetchMetadata(urls);
+
+            Map<String, List<TrendingArticleResponse>> result = new HashMap<>();
+            for (int i = 0; i < orderedKeys.size(); i++) {
+                List<TrendingArticleResponse> articles = new ArrayList<>();
+                for (Tuple tuple : (Set<Tuple>) replies.get(i)) {
+                    hydrate(new String(tuple.getValue(), StandardCharsets.UTF_8), tuple.getScore(), metadata)
+                            .ifPresent(articles::add);
+                }
+                recordRedisLookup(!articles.isEmpty());
+                if (!articles.isEmpty()) {
+                    result.put(orderedKeys.get(i), articles);
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Error retrieving {} cache sets: {}", keys.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public Map<String, List<TrendingArticleResponse>> getListsOrLoad(
+            Collection<String> keys,
+            Function<Collection<String>, Map<String, List<TrendingArticleResponse>>> loader,
+            Duration ttl) {
+        Map<String, List<TrendingArticleResponse>> result = new HashMap<>(getLists(keys));
+        List<String> misses = keys.stream().filter(key -> !result.containsKey(key)).toList();
+        if (!misses.isEmpty()) {
+            result.putAll(load(misses, loader, ttl));
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<List<TrendingArticleResponse>> unionTopK(
+            Collection<String> keys, int limit,
+            Function<Collection<String>, Map<String, List<TrendingArticleResponse>>> loader,
+            Duration ttl) {
+        if (keys.isEmpty() || limit <= 0) {
+            return Optional.of(List.of());
+        }
+        try {
+            List<String> cellKeys = keys.stream().map(key -> CELL_KEY_PREFIX + key).toList();
+            List<byte[]> missing = binaryRedisTemplate.execute(MISSING_KEYS_SCRIPT, cellKeys);
+            if (missing != null && !missing.isEmpty()) {
+                List<String> missedCells = missing.stream()
+                        .map(key -> new String(key, StandardCharsets.UTF_8).substring(CELL_KEY_PREFIX.length()))
+                        .toList();
+                redisMisses.addAndGet(missedCells.size());
+                load(missedCells, loader, ttl);
+            }
+            redisHits.addAndGet(keys.size() - (missing == null ? 0 : missing.size()));
+
+            List<String> scriptKeys = new ArrayList<>(cellKeys.size() + 1);
+            scriptKeys.add(UNION_KEY_PREFIX + UUID.randomUUID());
+            scriptKeys.addAll(cellKeys);
+            List<byte[]> top = binaryRedisTemplate.execute(UNION_TOP_K_SCRIPT, scriptKeys, raw(String.valueOf(limit)));
+            unions.incrementAndGet();
+            if (top == null || top.isEmpty()) {
+                return Optional.of(List.of());
+            }
+
+            Map<String, Double> ranked = new LinkedHashMap<>();
+            for (int i = 0; i + 1 < top.size(); i += 2) {
+                ranked.put(new String(top.get(i), StandardCharsets.UTF_8),
+                        Double.parseDouble(new String(top.get(i + 1), StandardCharsets.UTF_8)));
+            }
+            Map<String, byte[]> metadata = fetchMetadata(ranked.keySet());
+            List<TrendingArticleResponse> articles = new ArrayList<>(ranked.size());
+            ranked.forEach((url, score) -> hydrate(url, score, metadata).ifPresent(articles::add));
+            return Optional.of(articles);
+        } catch (Exception e) {
+            log.error("Error computing radius union over {} cells: {}", keys.size(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, TrendingArticleResponse value, Duration ttl) {
+        putLists(Map.of(key, List.of(value)), ttl);
+    }
+
+    @Override
+    public void putLists(Map<String, List<TrendingArticleResponse>> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] metaKey = raw(META_KEY_PREFIX + generation(System.currentTimeMillis()));
+            Map<byte[], byte[]> metadata = new HashMap<>();
+            Map<byte[], Set<Tuple>> cells = new HashMap<>();
+            values.forEach((key, articles) -> {
+                Set<Tuple> tuples = new LinkedHashSet<>();
+                for (TrendingArticleResponse article : articles) {
+                    if (article.getUrl() == null) {
+                        continue;
+                    }
+                    byte[] member = raw(article.getUrl());
+                    tuples.add(new DefaultTuple(member, article.getTrendingScore()));
+                    metadata.put(member, codec.encode(List.of(article)));
+                }
+                cells.put(raw(CELL_KEY_PREFIX + key), tuples);
+            });
+
+            binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                if (!metadata.isEmpty()) {
+                    connection.hashCommands().hMSet(metaKey, metadata);
+                    connection.keyCommands().pExpire(metaKey, 2 * generationMillis());
+                }
+                cells.forEach((cellKey, tuples) -> {
+                    connection.multi();
+                    connection.keyCommands().del(cellKey);
+                    if (!tuples.isEmpty()) {
+                        connection.zSetCommands().zAdd(cellKey, tuples);
+                        connection.keyCommands().pExpire(cellKey, ttl.toMillis());
+                    }
+                    connection.exec();
+                });
+                return null;
+            });
+            log.debug("Cached {} cell sets with TTL={}min", values.size(), ttl.toMinutes());
+        } catch (Exception e) {
+            log.error("Error caching {} cell sets: {}", values.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String key) {
+        try {
+            binaryRedisTemplate.delete(CELL_KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.error("Error evicting cache key={}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            binaryRedisTemplate.delete(keys.stream().map(key -> CELL_KEY_PREFIX + key).toList());
+        } catch (Exception e) {
+            log.error("Error evicting {} cache keys: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean acquireLock(String lockKey, Duration lockTimeout) {
+        try {
+            String lockValue = UUID.randomUUID().toString();
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY_PREFIX + lockKey, lockValue, lockTimeout);
+            if (Boolean.TRUE.equals(acquired)) {
+                lockValueHolder.set(lockValue);
+                return true;
+            }
+            return false;
+        } catch (Exception e) {
+            log.error("Error acquiring lock for key={}: {}", lockKey, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void releaseLock(String lockKey) {
+        try {
+            String expectedValue = lockValueHolder.get();
+            if (expectedValue != null) {
+                if (expectedValue.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY_PREFIX + lockKey))) {
+                    stringRedisTemplate.delete(LOCK_KEY_PREFIX + lockKey);
+                }
+                lockValueHolder.remove();
+            }
+        } catch (Exception e) {
+            log.error("Error releasing lock for key={}: {}", lockKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean updateWithLock(String value, List<TrendingArticleResponse> values, Duration ttl) {
+        if (!acquireLock(value, LOCK_TIMEOUT)) {
+            log.warn("Could not acquire lock for cache update, key={}", value);
+            return false;
+        }
+        try {
+            putLists(Map.of(value, values), ttl);
+            return true;
+        } finally {
+            releaseLock(value);
+        }
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        long hits = redisHits.get();
+        long misses = redisMisses.get();
+        Map<String, Object> redis = new LinkedHashMap<>();
+        redis.put("backend", "zset");
+        redis.put("hits", hits);
+        redis.put("misses", misses);
+        redis.put("hit_ratio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        redis.put("radius_unions", unions.get());
+
+        Map<String, Object> loads = new LinkedHashMap<>();
+        loads.put("loaded", singleFlight.loadedCount());
+        loads.put("coalesced", singleFlight.coalescedCount());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("redis", redis);
+        result.put("loads", loads);
+        return result;
+    }
+
+    private Map<String, List<TrendingArticleResponse>> load(
+            Collection<String> keys,
+            Function<Collection<String>, Map<String, List<TrendingArticleResponse>>> loader,
+            Duration ttl) {
+        return singleFlight.load(keys, leaderKeys -> {
+            Map<String, List<TrendingArticleResponse>> loaded = loader.apply(leaderKeys);
+            putLists(loaded, ttl);
+            return loaded;
+        });
+    }
+
+    /**
+     * Reads metadata for the given URLs from the current and previous generation hashes in one pipeline.
+     */
+    private Map<String, byte[]> fetchMetadata(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return Map.of();
+        }
+        long generation = generation(System.currentTimeMillis());
+        byte[][] fields = urls.stream().map(RedisZSetCacheService::raw).toArray(byte[][]::new);
+        List<Object> replies = binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMGet(raw(META_KEY_PREFIX + generation), fields);
+            connection.hashCommands().hMGet(raw(META_KEY_PREFIX + (generation - 1)), fields);
+            return null;
+        });
+
+        List<byte[]> current = (List<byte[]>) replies.get(0);
+        List<byte[]> previous = (List<byte[]>) replies.get(1);
+        Map<String, byte[]> metadata = new HashMap<>();
+        int i = 0;
+        for (String url : urls) {
+            byte[] value = current.get(i) != null ? current.get(i) : previous.get(i);
+            if (value != null) {
+                metadata.put(url, value);
+            }
+            i++;
+        }
+        return metadata;
+    }
+
+    private Optional<TrendingArticleResponse> hydrate(String url, double score, Map<String, byte[]> metadata) {
+        byte[] bytes = metadata.get(url);
+        if (bytes == null) {
+            return Optional.empty();
+        }
+        try {
+            TrendingArticleResponse article = codec.decode(bytes).getFirst();
+            article.setTrendingScore(score);
+            return Optional.of(article);
+        } catch (IllegalArgumentException e) {
+            log.debug("Skipping undecodable metadata for url={}: {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private long generation(long nowMillis) {
+        return nowMillis / generationMillis();
+    }
+
+    private long generationMillis() {
+        return Duration.ofMinutes(newsProperties.getTrending().getCacheTtlMinutes()).toMillis();
+    }
+
+    private void recordRedisLookup(boolean hit) {
+        (hit ? redisHits : redisMisses).incrementAndGet();
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package com.news.retrieval.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same keys. The first caller for a key runs the
+ * loader; callers that arrive while that load is in flight wait for its result
+ * instead of loading again. A caller always finishes the keys it leads before it
+ * waits on keys led by others, so overlapping batches cannot deadlock.
+ */
+public class SingleFlight<V> {
+
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong loaded = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public Map<String, V> load(Collection<String> keys, Function<Collection<String>, Map<String, V>> loader) {
+        Map<String, CompletableFuture<V>> led = new LinkedHashMap<>();
+        Map<String, CompletableFuture<V>> followed = new HashMap<>();
+        for (String key : keys) {
+            CompletableFuture<V> future = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+            if (existing == null) {
+                led.put(key, future);
+            } else {
+                followed.put(key, existing);
+            }
+        }
+
+        Map<String, V> result = new HashMap<>();
+        if (!led.isEmpty()) {
+            try {
+                Map<String, V> values = loader.apply(List.copyOf(led.keySet()));
+                led.forEach((key, future) -> {
+                    V value = values.get(key);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                    future.complete(value);
+                });
+                loaded.addAndGet(led.size());
+            } catch (RuntimeException e) {
+                led.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                led.forEach(inFlight::remove);
+            }
+        }
+
+        coalesced.addAndGet(followed.size());
+        for (Map.Entry<String, CompletableFuture<V>> entry : followed.entrySet()) {
+            try {
+                V value = entry.getValue().join();
+                if (value != null) {
+                    result.put(entry.getKey(), value);
+                }
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return result;
+    }
+
+    public long loadedCount() {
+        return loaded.get();
+    }
+
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+}
@@ -1,11 +1,17 @@
 package com.news.retrieval.config;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Component
@@ -17,6 +23,10 @@ public class NewsProperties {
     private double thresholdValue;
     private Trending trending = new Trending();
     private S3 s3 = new S3();
+    private Cache cache = new Cache();
+    private Events events = new Events();
+    private Simulation simulation = new Simulation();
+    private Search search = new Search();
     private String dataSource;
     private int batchSize;
     private int fetchRecordLimit;
@@ -26,6 +36,129 @@ public class NewsProperties {
     public static class Trending {
         private long schedulerIntervalMs = 600000;
         private long cacheTtlMinutes = 10;
+        private boolean incrementalEnabled = true;
+        private long watermarkOverlapIds = 100000;
+        private int bucketWidthMinutes = 10;
+        private int scanFetchSize = 10000;
+        private int scanChunkSize = 100000;
+        private boolean bulkWriteEnabled = true;
+        private int writeBatchSize = 5000;
+        private int neighbourhoodTopK = 50;
+        private boolean facetsEnabled = true;
+        private boolean benchmarkEnabled = false;
+        private String defaultWindow = "24h";
+        private List<Window> windows = new ArrayList<>(List.of(
+                new Window("1h", Duration.ofHours(1), Duration.ofMinutes(30)),
+                new Window("6h", Duration.ofHours(6), Duration.ofHours(3)),
+                new Window("24h", Duration.ofHours(24), Duration.ofMinutes(998))));
+        private int parallelism = 0;
+        private int minEventsPerPartition = 20000;
+        private int writeConcurrency = 1;
+        private Sharding sharding = new Sharding();
+        private Approximate approximate = new Approximate();
+
+        public Duration longestWindowLength() {
+            return windows.stream()
+                    .map(Window::getLength)
+                    .max(Duration::compareTo)
+                    .orElse(Duration.ZERO);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        private String backend = "postgres";
+        private boolean rerankEnabled = false;
+        private double bm25K1 = 1.2;
+        private double bm25B = 0.75;
+        private double titleWeight = 2.0;
+        private int warmUpBatchSize = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Approximate {
+        private boolean enabled = false;
+        private int capacityPerCell = 32;
+        private int sketchWidth = 2048;
+        private int sketchDepth = 4;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Window {
+        private String name;
+        private Duration length;
+        private Duration halfLife;
+    }
+
+    @Getter
+    @Setter
+    public static class Sharding {
+        private boolean enabled = false;
+        private int shardCount = 8;
+        private long leaseTtlMs = 60000;
+        private long heartbeatIntervalMs = 15000;
+        private long rebalanceIntervalMs = 3600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Events {
+        private int bufferCapacity = 100000;
+        private int batchSize = 1000;
+        private long flushIntervalMs = 200;
+        private int maxRequestSize = 10000;
+        private int writeRetries = 3;
+        private long retryBackoffMs = 200;
+        private long maxClockSkewSeconds = 300;
+        private boolean partitioningEnabled = true;
+        private int partitionAheadDays = 3;
+        private int retentionHours = 24;
+        private long partitionMaintenanceIntervalMs = 3600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Simulation {
+        private int producers = 4;
+        private int batchSize = 5000;
+        private int maxProducers = 0;
+        private int maxBatchSize = 20000;
+        private long maxCount = 10_000_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private String invalidationChannel = "cache:invalidate";
+        private double earlyRefreshBeta = 1.0;
+        private int refreshThreads = 2;
+        private String backend = "blob";
+        private String codec = "binary";
+        private boolean compressionEnabled = true;
+        private int compressionThresholdBytes = 512;
+        private Local local = new Local();
+        private QueryResults queryResults = new QueryResults();
+
+        @Getter
+        @Setter
+        public static class Local {
+            private boolean enabled = true;
+            private long maxSize = 10000;
+            private long ttlSeconds = 60;
+        }
+
+        @Getter
+        @Setter
+        public static class QueryResults {
+            private boolean enabled = true;
+            private long idsTtlSeconds = 300;
+            private long summaryTtlSeconds = 86400;
+        }
     }
 
     @Getter
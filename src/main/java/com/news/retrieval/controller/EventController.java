@@ -0,0 +1,78 @@
+package com.news.retrieval.controller;
+
+import com.news.retrieval.dto.ApiResponse;
+import com.news.retrieval.dto.UserEventRequest;
+import com.news.retrieval.exception.ErrorCode;
+import com.news.retrieval.exception.NewsRetrievalException;
+import com.news.retrieval.service.EventIngestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/events")
+@Tag(name = "Events", description = "User interaction event ingestion APIs")
+@Slf4j
+@AllArgsConstructor
+public class EventController {
+
+    private final EventIngestService eventIngestService;
+
+    @PostMapping
+    @Operation(
+            summary = "Record a user event",
+            description = "Buffers a single view, click or share event for asynchronous batch persistence."
+    )
+    public ResponseEntity<ApiResponse<Map<String, Object>>> recordEvent(
+            @Parameter(description = "User event", required = true)
+            @RequestBody UserEventRequest request) {
+
+        return accepted(eventIngestService.submit(List.of(request)));
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Record a batch of user events",
+            description = "Buffers a batch of view, click or share events for asynchronous batch persistence. " +
+                    "Returns 413 above the maximum batch size and 503 when the buffer is full."
+    )
+    public ResponseEntity<ApiResponse<Map<String, Object>>> recordEvents(
+            @Parameter(description = "User events", required = true)
+            @RequestBody List<UserEventRequest> requests) {
+
+        log.debug("Event batch endpoint: size={}", requests.size());
+
+        if (requests.isEmpty()) {
+            throw new NewsRetrievalException(ErrorCode.INVALID_EVENT);
+        }
+        if (requests.size() > eventIngestService.maxRequestSize()) {
+            throw new NewsRetrievalException(ErrorCode.EVENT_BATCH_TOO_LARGE);
+        }
+
+        return accepted(eventIngestService.submit(requests));
+    }
+
+    @GetMapping("/stats")
+    @Operation(
+            summary = "Event buffer statistics",
+            description = "Returns buffered, accepted, rejected, written and failed event counts"
+    )
+    public ResponseEntity<ApiResponse<Map<String, Object>>> stats() {
+        Map<String, Object> stats = eventIngestService.stats();
+        return ResponseEntity.ok(ApiResponse.success(stats, stats.size(), "Event buffer statistics."));
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, Object>>> accepted(int count) {
+        Map<String, Object> result = Map.of("events_accepted", count);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(result, count, "Accepted " + count + " user events."));
+    }
+}
@@ -1,18 +1,28 @@
 package com.news.retrieval.controller;
 
+import com.news.retrieval.cache.CacheService;
 import com.news.retrieval.dto.ApiResponse;
+import com.news.retrieval.search.ArticleSearchIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api")
 @Tag(name = "Health", description = "Health check endpoints")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final CacheService<?> cacheService;
+    private final Optional<ArticleSearchIndex> searchIndex;
+
     @GetMapping("/health")
     @Operation(
             summary = "Health check",
@@ -21,4 +31,25 @@ public class HealthController {
     public ResponseEntity<ApiResponse<String>> health() {
         return ResponseEntity.ok(ApiResponse.success("OK", 0, "Service is running."));
     }
+
+    @GetMapping("/health/cache")
+    @Operation(
+            summary = "Cache statistics",
+            description = "Returns hit ratios for the in-process and Redis cache tiers"
+    )
+    public ResponseEntity<ApiResponse<Map<String, Object>>> cacheStats() {
+        Map<String, Object> stats = cacheService.stats();
+        return ResponseEntity.ok(ApiResponse.success(stats, stats.size(), "Cache statistics."));
+    }
+
+    @GetMapping("/health/search")
+    @Operation(
+            summary = "Search index statistics",
+            description = "Returns document, term and postings size of the in-process search index, if enabled"
+    )
+    public ResponseEntity<ApiResponse<Map<String, Object>>> searchStats() {
+        Map<String, Object> stats = searchIndex.map(ArticleSearchIndex::stats)
+                .orElse(Map.of("backend", "postgres"));
+        return ResponseEntity.ok(ApiResponse.success(stats, stats.size(), "Search index statistics."));
+    }
 }
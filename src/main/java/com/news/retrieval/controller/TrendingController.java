@@ -1,10 +1,14 @@
 package com.news.retrieval.controller;
 
 import com.news.retrieval.dto.ApiResponse;
+import com.news.retrieval.dto.EventSimulationRequest;
 import com.news.retrieval.dto.TrendingArticleResponse;
 import com.news.retrieval.exception.ErrorCode;
 import com.news.retrieval.exception.NewsRetrievalException;
+import com.news.retrieval.service.EventSimulatorService;
+import com.news.retrieval.service.TrendingBenchmarkService;
 import com.news.retrieval.service.TrendingService;
+import com.news.retrieval.trending.TrendingFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/news")
@@ -23,13 +28,19 @@ import java.util.Map;
 @AllArgsConstructor
 public class TrendingController {
 
+    private static final int MAX_TRENDING_LIMIT = 50;
+
     private final TrendingService trendingService;
+    private final EventSimulatorService eventSimulatorService;
+    private final Optional<TrendingBenchmarkService> trendingBenchmarkService;
 
     @GetMapping("/trending")
     @Operation(
             summary = "Get trending news articles near a location",
             description = "Returns top trending articles within a geo-cell derived from the user's location. " +
-                    "Uses precomputed trending scores and Redis caching per geo-cell."
+                    "Uses precomputed trending scores and Redis caching per geo-cell. " +
+                    "Supports several trending windows (e.g. 1h, 6h, 24h) and is optionally restricted " +
+                    "to one category or one source."
     )
     public ResponseEntity<ApiResponse<List<TrendingArticleResponse>>> getTrending(
             @Parameter(description = "Latitude (-90 to 90)", required = true, example = "40.7128")
@@ -37,13 +48,25 @@ public class TrendingController {
             @Parameter(description = "Longitude (-180 to 180)", required = true, example = "-74.0060")
             @RequestParam double lon,
             @Parameter(description = "Maximum number of articles to return (default: 10, max: 50)", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Trending window, one of the configured news.trending.windows (default: 24h)", example = "1h")
+            @RequestParam(required = false) String window,
+            @Parameter(description = "Only articles in this category", example = "sports")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "Only articles from this source", example = "Reuters")
+            @RequestParam(required = false) String source) {
 
-        log.info("Trending endpoint: lat={}, lon={}, limit={}", lat, lon, limit);
+        log.info("Trending endpoint: lat={}, lon={}, limit={}, window={}, category={}, source={}",
+                lat, lon, limit, window, category, source);
 
         validateCoordinates(lat, lon);
+        TrendingFilter filter = TrendingFilter.of(category, source);
+        if (filter.category() != null && filter.source() != null) {
+            throw new NewsRetrievalException(ErrorCode.INVALID_TRENDING_FILTER);
+        }
 
-        List<TrendingArticleResponse> trending = trendingService.getTrendingNearby(lat, lon, limit);
+        List<TrendingArticleResponse> trending = trendingService.getTrendingNearby(
+                lat, lon, Math.min(limit, MAX_TRENDING_LIMIT), window, filter);
 
         ApiResponse<List<TrendingArticleResponse>> response = ApiResponse.success(
                 trending, trending.size(),
@@ -66,12 +89,51 @@ public class TrendingController {
 
         log.info("Simulate events endpoint: count={}", count);
 
-        int simulated = trendingService.simulateUserEvents(count);
+        return simulated(eventSimulatorService.simulate(
+                EventSimulationRequest.builder().count((long) count).build()));
+    }
+
+    @PostMapping("/trending/simulate/bulk")
+    @Operation(
+            summary = "Generate a high volume of synthetic user events",
+            description = "Streams synthetic events from parallel producers through batched inserts. " +
+                    "Supports Zipf article skew, geo hotspots, recency-biased timestamps and an event type mix, " +
+                    "and reports the achieved events per second."
+    )
+    public ResponseEntity<ApiResponse<Map<String, Object>>> simulateBulkEvents(
+            @Parameter(description = "Generator parameters", required = true)
+            @RequestBody EventSimulationRequest request) {
+
+        log.info("Bulk simulate events endpoint: count={}, producers={}", request.getCount(), request.getProducers());
 
-        Map<String, Object> result = Map.of("events_simulated", simulated);
+        return simulated(eventSimulatorService.simulate(request));
+    }
+
+    @PostMapping("/trending/benchmark")
+    @Operation(
+            summary = "Compare exact and approximate trending",
+            description = "Scans the events of one trending window once, folds them into the exact and the " +
+                    "approximate (Space-Saving + count-min sketch) state and reports state size, fold time " +
+                    "and per-cell top-N recall and score error of the approximate mode. " +
+                    "Only available when news.trending.benchmark-enabled is true."
+    )
+    public ResponseEntity<ApiResponse<Map<String, Object>>> benchmarkApproximate(
+            @Parameter(description = "Trending window to benchmark (default: 24h)", example = "24h")
+            @RequestParam(required = false) String window) {
+
+        log.info("Trending benchmark endpoint: window={}", window);
+
+        TrendingBenchmarkService benchmarkService = trendingBenchmarkService
+                .orElseThrow(() -> new NewsRetrievalException(ErrorCode.BENCHMARK_DISABLED));
+        Map<String, Object> result = benchmarkService.compareApproximate(window);
+        return ResponseEntity.ok(ApiResponse.success(result, 1,
+                "Compared exact and approximate trending over " + result.get("events_scanned") + " events."));
+    }
 
+    private ResponseEntity<ApiResponse<Map<String, Object>>> simulated(Map<String, Object> result) {
+        long simulated = (long) result.get("events_simulated");
         return ResponseEntity.ok(
-                ApiResponse.success(result, simulated,
+                ApiResponse.success(result, (int) Math.min(simulated, Integer.MAX_VALUE),
                         "Successfully simulated " + simulated + " user events."));
     }
 
@@ -0,0 +1,41 @@
+package com.news.retrieval.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.news.retrieval.model.UserArticleEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Parameters for the synthetic event generator. Unset fields fall back to
+ * configuration or to a uniform distribution.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSimulationRequest {
+
+    private Long count;
+    private Integer producers;
+    @JsonProperty("batch_size")
+    private Integer batchSize;
+    @JsonProperty("window_hours")
+    private Double windowHours;
+    @JsonProperty("recency_half_life_hours")
+    private Double recencyHalfLifeHours;
+    @JsonProperty("geo_spread_km")
+    private Double geoSpreadKm;
+    @JsonProperty("article_skew")
+    private Double articleSkew;
+    @JsonProperty("hotspot_count")
+    private Integer hotspotCount;
+    @JsonProperty("hotspot_fraction")
+    private Double hotspotFraction;
+    @JsonProperty("event_type_weights")
+    private Map<UserArticleEvent.EventType, Double> eventTypeWeights;
+    private Long seed;
+}
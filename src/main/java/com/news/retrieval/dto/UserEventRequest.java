@@ -0,0 +1,26 @@
+package com.news.retrieval.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.news.retrieval.model.UserArticleEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserEventRequest {
+
+    @JsonProperty("article_id")
+    private String articleId;
+    @JsonProperty("event_type")
+    private UserArticleEvent.EventType eventType;
+    private Double latitude;
+    private Double longitude;
+    @JsonProperty("created_at")
+    private LocalDateTime createdAt;
+}
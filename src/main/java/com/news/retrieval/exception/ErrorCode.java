@@ -14,11 +14,20 @@ public enum ErrorCode {
     INVALID_LONGITUDE("NEWS-400-007", HttpStatus.BAD_REQUEST, "Longitude must be between -180 and 180."),
     MISSING_PARAMETER("NEWS-400-008", HttpStatus.BAD_REQUEST, "A required parameter is missing."),
     TYPE_MISMATCH("NEWS-400-009", HttpStatus.BAD_REQUEST, "Parameter type mismatch."),
+    INVALID_EVENT("NEWS-400-010", HttpStatus.BAD_REQUEST, "Event must include article_id, event_type, latitude and longitude."),
+    INVALID_SIMULATION("NEWS-400-011", HttpStatus.BAD_REQUEST, "Simulation count, producers and distribution parameters must be positive, with count, producers and batch_size within the configured maximums and window_hours within the longest trending window."),
+    INVALID_TRENDING_FILTER("NEWS-400-012", HttpStatus.BAD_REQUEST, "Trending can be filtered by category or by source, not both."),
+    INVALID_TRENDING_WINDOW("NEWS-400-013", HttpStatus.BAD_REQUEST, "Unknown trending window."),
+    INVALID_EVENT_TIMESTAMP("NEWS-400-014", HttpStatus.BAD_REQUEST, "Event created_at must lie within the longest trending window and not in the future."),
+
+    // 413 - Payload Too Large
+    EVENT_BATCH_TOO_LARGE("NEWS-413-001", HttpStatus.PAYLOAD_TOO_LARGE, "Event batch exceeds the maximum batch size."),
 
     // 404 - Not Found
     ARTICLE_NOT_FOUND("NEWS-404-001", HttpStatus.NOT_FOUND, "The requested article was not found."),
     CATEGORY_NOT_FOUND("NEWS-404-002", HttpStatus.NOT_FOUND, "The specified category does not exist."),
     STRATEGY_NOT_FOUND("NEWS-404-003", HttpStatus.NOT_FOUND, "No strategy found for the given intent."),
+    BENCHMARK_DISABLED("NEWS-404-004", HttpStatus.NOT_FOUND, "The trending benchmark is disabled."),
 
     // 500 - Internal Server Error
     INGESTION_FAILED("NEWS-500-001", HttpStatus.INTERNAL_SERVER_ERROR, "Data ingestion failed."),
@@ -26,7 +35,10 @@ public enum ErrorCode {
     INTERNAL_ERROR("NEWS-500-003", HttpStatus.INTERNAL_SERVER_ERROR, "An internal error occurred. Please try again later."),
     LLM_RESPONSE_PARSE_ERROR("NEWS-500-004", HttpStatus.INTERNAL_SERVER_ERROR, "Failed to parse LLM response."),
     LLM_PROMPT_LOAD_ERROR("NEWS-500-005", HttpStatus.INTERNAL_SERVER_ERROR, "Failed to load prompt templates."),
-    LLM_COMMUNICATION_ERROR("NEWS-500-006", HttpStatus.INTERNAL_SERVER_ERROR, "Failed to communicate with LLM service.");
+    LLM_COMMUNICATION_ERROR("NEWS-500-006", HttpStatus.INTERNAL_SERVER_ERROR, "Failed to communicate with LLM service."),
+
+    // 503 - Service Unavailable
+    EVENT_BUFFER_FULL("NEWS-503-001", HttpStatus.SERVICE_UNAVAILABLE, "Event buffer is full. Please retry later.");
 
     private final String code;
     private final HttpStatus httpStatus;
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -17,9 +18,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "trending_scores", indexes = {
         @Index(name = "idx_ts_geo_cell", columnList = "geo_cell"),
-        @Index(name = "idx_ts_geo_cell_score", columnList = "geo_cell, score")
+        @Index(name = "idx_ts_window_geo_cell_score", columnList = "window_name, geo_cell, score")
 }, uniqueConstraints = {
-        @UniqueConstraint(name = "uk_geo_cell_article", columnNames = {"geo_cell", "article_id"})
+        @UniqueConstraint(name = "uk_window_geo_cell_article", columnNames = {"window_name", "geo_cell", "article_id"})
 })
 public class TrendingScore {
 
@@ -27,6 +28,10 @@ public class TrendingScore {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "window_name", nullable = false, length = 16)
+    @ColumnDefault("'24h'")
+    private String windowName;
+
     @Column(name = "geo_cell", nullable = false, length = 30)
     private String geoCell;
 
@@ -0,0 +1,8 @@
+package com.news.retrieval.repository;
+
+/**
+ * Source and one category name of a {@link com.news.retrieval.model.NewsArticle}; an article
+ * with several categories yields one row per category, and one with none a null category.
+ */
+public record ArticleFacet(String id, String sourceName, String categoryName) {
+}
@@ -0,0 +1,7 @@
+package com.news.retrieval.repository;
+
+/**
+ * Id and coordinates of a {@link com.news.retrieval.model.NewsArticle}, without its text or categories.
+ */
+public record ArticleLocation(String id, double latitude, double longitude) {
+}
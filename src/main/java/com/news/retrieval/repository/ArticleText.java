@@ -0,0 +1,7 @@
+package com.news.retrieval.repository;
+
+/**
+ * Id and searchable text of a {@link com.news.retrieval.model.NewsArticle}.
+ */
+public record ArticleText(String id, String title, String description) {
+}
@@ -0,0 +1,14 @@
+package com.news.retrieval.repository;
+
+import java.util.List;
+
+public interface NewsArticleRepositoryCustom {
+
+    List<RankedArticle> fullTextSearch(String query, int limit);
+
+    List<RankedArticle> substringSearch(List<String> terms, int limit);
+
+    List<RankedArticle> findByCategoryContaining(String category, int limit);
+
+    List<RankedArticle> findBySourceContaining(String source, int limit);
+}
@@ -0,0 +1,135 @@
+package com.news.retrieval.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class NewsArticleRepositoryCustomImpl implements NewsArticleRepositoryCustom {
+
+    private static final int MIN_INDEXED_TERM_LENGTH = 3;
+
+    /** Wraps a ranked, limited id subquery with the article columns and aggregated category names. */
+    private static final String RANKED_ROWS_SQL = """
+        SELECT a.id, a.title, a.description, a.url, a.publication_date, a.source_name, a.relevance_score,
+               a.latitude, a.longitude, ranked.rank,
+               array_agg(c.name ORDER BY c.name) FILTER (WHERE c.name IS NOT NULL) AS categories
+        FROM (%s) ranked
+        JOIN news_articles a ON a.id = ranked.id
+        LEFT JOIN news_article_categories nac ON nac.article_id = a.id
+        LEFT JOIN categories c ON c.id = nac.category_id
+        GROUP BY a.id, ranked.rank
+        ORDER BY ranked.rank DESC, a.publication_date DESC NULLS LAST, a.id
+    """;
+
+    private static final String FULL_TEXT_IDS_SQL = """
+        SELECT a.id, ts_rank(a.search_vector, q) AS rank
+        FROM news_articles a, to_tsquery('english', regexp_replace(trim(?), '\\s+', ' | ', 'g')) q
+        WHERE a.search_vector @@ q
+        ORDER BY rank DESC
+        LIMIT ?
+    """;
+
+    private static final String CATEGORY_IDS_SQL = """
+        SELECT a.id, 0 AS rank
+        FROM news_articles a
+        WHERE a.id IN (SELECT nac.article_id FROM news_article_categories nac
+                       JOIN categories c ON c.id = nac.category_id
+                       WHERE lower(c.name) LIKE ?)
+        ORDER BY a.publication_date DESC NULLS LAST
+        LIMIT ?
+    """;
+
+    private static final String SOURCE_IDS_SQL = """
+        SELECT a.id, 0 AS rank
+        FROM news_articles a
+        WHERE lower(a.source_name) LIKE ?
+        ORDER BY a.publication_date DESC NULLS LAST
+        LIMIT ?
+    """;
+
+    private static final RowMapper<RankedArticle> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp publicationDate = rs.getTimestamp("publication_date");
+        Array categories = rs.getArray("categories");
+        return new RankedArticle(
+                rs.getString("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getString("url"),
+                publicationDate == null ? null : publicationDate.toLocalDateTime(),
+                rs.getString("source_name"),
+                rs.getDouble("relevance_score"),
+                rs.getDouble("latitude"),
+                rs.getDouble("longitude"),
+                categories == null ? List.of() : Arrays.asList((String[]) categories.getArray()),
+                rs.getDouble("rank"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<RankedArticle> fullTextSearch(String query, int limit) {
+        return jdbcTemplate.query(RANKED_ROWS_SQL.formatted(FULL_TEXT_IDS_SQL), ROW_MAPPER, query, limit);
+    }
+
+    /**
+     * Matches every term against title and description in one statement. Each predicate is a
+     * {@code LIKE '%term%'} on a trigram-indexed expression, so the planner can OR the index
+     * bitmaps instead of scanning. Terms shorter than a trigram cannot use the index and only
+     * add to the rank, which is 3 per title hit plus 1 per description hit.
+     */
+    @Override
+    public List<RankedArticle> substringSearch(List<String> terms, int limit) {
+        List<String> indexedTerms = terms.stream().filter(term -> term.length() >= MIN_INDEXED_TERM_LENGTH).toList();
+        if (indexedTerms.isEmpty()) {
+            return List.of();
+        }
+        StringJoiner score = new StringJoiner(" + ");
+        List<Object> args = new ArrayList<>(terms.size() * 2 + indexedTerms.size() * 2 + 1);
+        for (String term : terms) {
+            String pattern = containsPattern(term);
+            score.add("(CASE WHEN lower(a.title) LIKE ? THEN 3 ELSE 0 END)"
+                    + " + (CASE WHEN lower(a.description) LIKE ? THEN 1 ELSE 0 END)");
+            args.addAll(List.of(pattern, pattern));
+        }
+        StringJoiner match = new StringJoiner(" OR ");
+        for (String term : indexedTerms) {
+            String pattern = containsPattern(term);
+            match.add("lower(a.title) LIKE ? OR lower(a.description) LIKE ?");
+            args.addAll(List.of(pattern, pattern));
+        }
+        args.add(limit);
+
+        String ids = "SELECT a.id, " + score + " AS rank FROM news_articles a WHERE " + match
+                + " ORDER BY rank DESC, a.relevance_score DESC LIMIT ?";
+        return jdbcTemplate.query(RANKED_ROWS_SQL.formatted(ids), ROW_MAPPER, args.toArray());
+    }
+
+    @Override
+    public List<RankedArticle> findByCategoryContaining(String category, int limit) {
+        return jdbcTemplate.query(RANKED_ROWS_SQL.formatted(CATEGORY_IDS_SQL), ROW_MAPPER,
+                containsPattern(category), limit);
+    }
+
+    @Override
+    public List<RankedArticle> findBySourceContaining(String source, int limit) {
+        return jdbcTemplate.query(RANKED_ROWS_SQL.formatted(SOURCE_IDS_SQL), ROW_MAPPER,
+                containsPattern(source), limit);
+    }
+
+    private static String containsPattern(String value) {
+        String escaped = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,35 @@
+package com.news.retrieval.repository;
+
+import com.news.retrieval.model.Category;
+import com.news.retrieval.model.NewsArticle;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Flat search hit: the article columns, its category names and the database rank.
+ */
+public record RankedArticle(String id, String title, String description, String url,
+                            LocalDateTime publicationDate, String sourceName, double relevanceScore,
+                            double latitude, double longitude, List<String> categories, double rank) {
+
+    /** Detached article carrying the aggregated category names. */
+    public NewsArticle toArticle() {
+        Set<Category> categorySet = new LinkedHashSet<>();
+        categories.forEach(name -> categorySet.add(Category.builder().name(name).build()));
+        return NewsArticle.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .url(url)
+                .publicationDate(publicationDate)
+                .sourceName(sourceName)
+                .relevanceScore(relevanceScore)
+                .latitude(latitude)
+                .longitude(longitude)
+                .categories(categorySet)
+                .build();
+    }
+}
@@ -7,28 +7,81 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long> {
+public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long>, TrendingScoreRepositoryCustom {
 
     @Query("""
         SELECT ts FROM TrendingScore ts
-        WHERE ts.geoCell = :geoCell
+        WHERE ts.windowName = :window AND ts.geoCell = :geoCell
         ORDER BY ts.score DESC
         LIMIT :limit
     """)
-    List<TrendingScore> findTopByGeoCell(@Param("geoCell") String geoCell,
+    List<TrendingScore> findTopByGeoCell(@Param("window") String window,
+                                         @Param("geoCell") String geoCell,
                                          @Param("limit") int limit);
 
+    @Query(value = """
+        SELECT ranked.id, ranked.window_name, ranked.geo_cell, ranked.article_id, ranked.score, ranked.updated_at
+        FROM (
+            SELECT ts.*, ROW_NUMBER() OVER (PARTITION BY ts.geo_cell ORDER BY ts.score DESC) AS rn
+            FROM trending_scores ts
+            WHERE ts.window_name = :window AND ts.geo_cell IN (:geoCells)
+        ) ranked
+        WHERE ranked.rn <= :limit
+        ORDER BY ranked.geo_cell, ranked.score DESC
+    """, nativeQuery = true)
+    List<TrendingScore> findTopByGeoCells(@Param("window") String window,
+                                          @Param("geoCells") Collection<String> geoCells,
+                                          @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT ranked.id, ranked.window_name, ranked.geo_cell, ranked.article_id, ranked.score, ranked.updated_at
+        FROM (
+            SELECT ts.*, ROW_NUMBER() OVER (PARTITION BY ts.geo_cell ORDER BY ts.score DESC) AS rn
+            FROM trending_scores ts
+            WHERE ts.window_name = :window AND ts.geo_cell IN (:geoCells)
+              AND EXISTS (
+                  SELECT 1 FROM news_article_categories nac
+                  JOIN categories c ON c.id = nac.category_id
+                  WHERE nac.article_id = ts.article_id AND LOWER(c.name) = :category
+              )
+        ) ranked
+        WHERE ranked.rn <= :limit
+        ORDER BY ranked.geo_cell, ranked.score DESC
+    """, nativeQuery = true)
+    List<TrendingScore> findTopByGeoCellsAndCategory(@Param("window") String window,
+                                                     @Param("geoCells") Collection<String> geoCells,
+                                                     @Param("category") String category,
+                                                     @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT ranked.id, ranked.window_name, ranked.geo_cell, ranked.article_id, ranked.score, ranked.updated_at
+        FROM (
+            SELECT ts.*, ROW_NUMBER() OVER (PARTITION BY ts.geo_cell ORDER BY ts.score DESC) AS rn
+            FROM trending_scores ts
+            JOIN news_articles a ON a.id = ts.article_id
+            WHERE ts.window_name = :window AND ts.geo_cell IN (:geoCells) AND LOWER(a.source_name) = :source
+        ) ranked
+        WHERE ranked.rn <= :limit
+        ORDER BY ranked.geo_cell, ranked.score DESC
+    """, nativeQuery = true)
+    List<TrendingScore> findTopByGeoCellsAndSource(@Param("window") String window,
+                                                   @Param("geoCells") Collection<String> geoCells,
+                                                   @Param("source") String source,
+                                                   @Param("limit") int limit);
+
     @Modifying
     @Query(value = """
-        INSERT INTO trending_scores (geo_cell, article_id, score, updated_at)
-        VALUES (:geoCell, :articleId, :score, NOW())
-        ON CONFLICT ON CONSTRAINT uk_geo_cell_article
+        INSERT INTO trending_scores (window_name, geo_cell, article_id, score, updated_at)
+        VALUES (:window, :geoCell, :articleId, :score, NOW())
+        ON CONFLICT ON CONSTRAINT uk_window_geo_cell_article
         DO UPDATE SET score = :score, updated_at = NOW()
     """, nativeQuery = true)
-    void upsertScore(@Param("geoCell") String geoCell,
+    void upsertScore(@Param("window") String window,
+                     @Param("geoCell") String geoCell,
                      @Param("articleId") String articleId,
                      @Param("score") double score);
 
@@ -0,0 +1,20 @@
+package com.news.retrieval.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TrendingScoreRepositoryCustom {
+
+    int bulkUpsertScores(String window, String[] geoCells, String[] articleIds, Double[] scores);
+
+    /**
+     * The database clock, on the same scale as the {@code updated_at} the upserts stamp.
+     */
+    LocalDateTime currentTimestamp();
+
+    /**
+     * Deletes the window's scores last written before {@code before} in cells whose latitude
+     * index lies in {@code [minLatIndex, maxLatIndex)}, and returns the distinct geo-cells touched.
+     */
+    List<String> deleteScoresUpdatedBefore(String window, LocalDateTime before, int minLatIndex, int maxLatIndex);
+}
@@ -0,0 +1,61 @@
+package com.news.retrieval.repository;
+
+import com.news.retrieval.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TrendingScoreRepositoryCustomImpl implements TrendingScoreRepositoryCustom {
+
+    private static final String BULK_UPSERT_SQL = """
+        INSERT INTO trending_scores (window_name, geo_cell, article_id, score, updated_at)
+        SELECT ?, t.geo_cell, t.article_id, t.score, NOW()
+        FROM unnest(?::varchar[], ?::varchar[], ?::float8[]) AS t(geo_cell, article_id, score)
+        ON CONFLICT ON CONSTRAINT uk_window_geo_cell_article
+        DO UPDATE SET score = EXCLUDED.score, updated_at = EXCLUDED.updated_at
+    """;
+
+    private static final String DELETE_STALE_SQL = """
+        WITH deleted AS (
+            DELETE FROM trending_scores
+            WHERE window_name = ? AND updated_at < ?
+              AND round(split_part(geo_cell, '_', 1)::numeric * ?) >= ?
+              AND round(split_part(geo_cell, '_', 1)::numeric * ?) < ?
+            RETURNING geo_cell
+        )
+        SELECT DISTINCT geo_cell FROM deleted
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int bulkUpsertScores(String window, String[] geoCells, String[] articleIds, Double[] scores) {
+        if (geoCells.length == 0) {
+            return 0;
+        }
+        return jdbcTemplate.update(BULK_UPSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setString(1, window);
+            ps.setArray(2, connection.createArrayOf("varchar", geoCells));
+            ps.setArray(3, connection.createArrayOf("varchar", articleIds));
+            ps.setArray(4, connection.createArrayOf("float8", scores));
+        });
+    }
+
+    @Override
+    public LocalDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", Timestamp.class).toLocalDateTime();
+    }
+
+    @Override
+    public List<String> deleteScoresUpdatedBefore(String window, LocalDateTime before, int minLatIndex,
+                                                  int maxLatIndex) {
+        return jdbcTemplate.queryForList(DELETE_STALE_SQL, String.class, window, Timestamp.valueOf(before),
+                GeoUtils.CELLS_PER_DEGREE, minLatIndex, GeoUtils.CELLS_PER_DEGREE, maxLatIndex);
+    }
+}
@@ -0,0 +1,21 @@
+package com.news.retrieval.repository;
+
+import com.news.retrieval.model.UserArticleEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface UserEventRepositoryCustom {
+
+    int batchInsert(List<UserArticleEvent> events);
+
+    /**
+     * Streams events with {@code id > afterId}, {@code createdAt > since} and a latitude in
+     * {@code [minLat, maxLat]} through a forward-only cursor, handing them to {@code chunkConsumer} in chunks of at most
+     * {@code chunkSize} rows. Returns the number of rows read.
+     */
+    long scanEvents(long afterId, LocalDateTime since, double minLat, double maxLat,
+                    int fetchSize, int chunkSize,
+                    Consumer<List<UserEventRow>> chunkConsumer);
+}
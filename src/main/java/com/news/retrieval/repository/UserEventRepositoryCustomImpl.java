@@ -0,0 +1,99 @@
+package com.news.retrieval.repository;
+
+import com.news.retrieval.model.UserArticleEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class UserEventRepositoryCustomImpl implements UserEventRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO user_article_events (article_id, event_type, latitude, longitude, created_at)
+        VALUES (?, ?, ?, ?, ?)
+    """;
+
+    private static final String SCAN_HQL = """
+        SELECT new com.news.retrieval.repository.UserEventRow(
+            e.id, e.articleId, e.eventType, e.latitude, e.longitude, e.createdAt)
+        FROM UserArticleEvent e
+        WHERE e.id > :afterId AND e.createdAt > :since AND e.latitude BETWEEN :minLat AND :maxLat
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int batchInsert(List<UserArticleEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getArticleId());
+            ps.setString(2, event.getEventType().name());
+            ps.setDouble(3, event.getLatitude());
+            ps.setDouble(4, event.getLongitude());
+            ps.setTimestamp(5, Timestamp.valueOf(event.getCreatedAt()));
+        });
+        return events.size();
+    }
+
+    @Override
+    public long scanEvents(long afterId, LocalDateTime since, double minLat, double maxLat,
+                           int fetchSize, int chunkSize,
+                           Consumer<List<UserEventRow>> chunkConsumer) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                long rows = scan(session, afterId, since, minLat, maxLat, fetchSize, chunkSize, chunkConsumer);
+                transaction.commit();
+                return rows;
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private long scan(StatelessSession session, long afterId, LocalDateTime since, double minLat, double maxLat,
+                      int fetchSize, int chunkSize, Consumer<List<UserEventRow>> chunkConsumer) {
+        long rows = 0;
+        try (ScrollableResults<UserEventRow> cursor = session.createQuery(SCAN_HQL, UserEventRow.class)
+                .setParameter("afterId", afterId)
+                .setParameter("since", since)
+                .setParameter("minLat", minLat)
+                .setParameter("maxLat", maxLat)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            List<UserEventRow> chunk = new ArrayList<>(chunkSize);
+            while (cursor.next()) {
+                chunk.add(cursor.get());
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    rows += chunk.size();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+                rows += chunk.size();
+            }
+        }
+        return rows;
+    }
+}
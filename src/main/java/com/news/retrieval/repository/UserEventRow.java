@@ -0,0 +1,12 @@
+package com.news.retrieval.repository;
+
+import com.news.retrieval.model.UserArticleEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a {@link UserArticleEvent} used by streaming scans.
+ */
+public record UserEventRow(long id, String articleId, UserArticleEvent.EventType eventType,
+                           double latitude, double longitude, LocalDateTime createdAt) {
+}
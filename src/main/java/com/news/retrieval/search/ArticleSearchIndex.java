@@ -0,0 +1,28 @@
+package com.news.retrieval.search;
+
+import com.news.retrieval.model.NewsArticle;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process text index that answers search queries without a database round trip.
+ * Implementations are kept current by ingest through {@link #index(Collection)}.
+ */
+public interface ArticleSearchIndex {
+
+    /**
+     * Returns the ids of the best matching articles, best first.
+     */
+    List<String> search(String query, int limit);
+
+    /**
+     * False until the index holds the stored articles; callers query the database meanwhile.
+     */
+    boolean isReady();
+
+    void index(Collection<NewsArticle> articles);
+
+    Map<String, Object> stats();
+}
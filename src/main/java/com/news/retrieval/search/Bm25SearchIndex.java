@@ -0,0 +1,278 @@
+package com.news.retrieval.search;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.model.NewsArticle;
+import com.news.retrieval.repository.ArticleText;
+import com.news.retrieval.repository.NewsArticleRepository;
+import com.news.retrieval.util.LongDoubleHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over article titles and descriptions scored with BM25F: title and
+ * description term frequencies are combined with {@code news.search.title-weight} before
+ * the usual BM25 saturation and length normalisation. Documents get dense ordinals in
+ * arrival order, so postings stay sorted and are stored delta/varint encoded. Re-indexing
+ * an article id retires its previous ordinal and takes it out of each term's document
+ * frequency; once retired ordinals pass a quarter of the index, postings are compacted.
+ */
+@Component
+@ConditionalOnProperty(prefix = "news.search", name = "backend", havingValue = "bm25")
+@Slf4j
+public class Bm25SearchIndex implements ArticleSearchIndex {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "in", "is", "it",
+            "its", "of", "on", "or", "that", "the", "to", "was", "were", "will", "with");
+    private static final double COMPACTION_RETIRED_FRACTION = 0.25;
+    private static final int COMPACTION_MIN_RETIRED = 1024;
+
+    private final NewsArticleRepository articleRepository;
+    private final double k1;
+    private final double b;
+    private final double titleWeight;
+    private final int warmUpBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final BitSet retired = new BitSet();
+    private String[] articleIds = new String[1024];
+    private float[] documentLengths = new float[1024];
+    private PostingList[][] documentPostings = new PostingList[1024][];
+    private int documentCount;
+    private int retiredCount;
+    private int liveDocuments;
+    private double totalLength;
+    private volatile boolean ready;
+
+    public Bm25SearchIndex(NewsArticleRepository articleRepository, NewsProperties newsProperties) {
+        NewsProperties.Search search = newsProperties.getSearch();
+        this.articleRepository = articleRepository;
+        this.k1 = search.getBm25K1();
+        this.b = search.getBm25B();
+        this.titleWeight = search.getTitleWeight();
+        this.warmUpBatchSize = search.getWarmUpBatchSize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        String afterId = "";
+        List<ArticleText> page;
+        do {
+            page = articleRepository.findTextsAfter(afterId, Limit.of(warmUpBatchSize));
+            lock.writeLock().lock();
+            try {
+                page.forEach(text -> add(text.id(), text.title(), text.description()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!page.isEmpty()) {
+                afterId = page.getLast().id();
+            }
+        } while (page.size() == warmUpBatchSize);
+        ready = true;
+        log.info("BM25 index built from {} articles, {} terms in {} ms",
+                liveDocuments, postings.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void index(Collection<NewsArticle> articles) {
+        lock.writeLock().lock();
+        try {
+            articles.forEach(article -> add(article.getId(), article.getTitle(), article.getDescription()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocuments == 0) {
+                return List.of();
+            }
+            double averageLength = totalLength / liveDocuments;
+            LongDoubleHashMap scores = new LongDoubleHashMap(256);
+            for (String term : terms.stream().distinct().toList()) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) continue;
+                int df = postingList.docFrequency();
+                double idf = Math.log(1 + (liveDocuments - df + 0.5) / (df + 0.5));
+                postingList.forEach((doc, titleFrequency, descriptionFrequency) -> {
+                    if (retired.get(doc)) return;
+                    double tf = titleWeight * titleFrequency + descriptionFrequency;
+                    double norm = k1 * (1 - b + b * documentLengths[doc] / averageLength);
+                    scores.addTo(doc, idf * tf * (k1 + 1) / (tf + norm));
+                });
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            long postingBytes = 0;
+            for (PostingList postingList : postings.values()) {
+                postingBytes += postingList.sizeBytes();
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("backend", "bm25");
+            stats.put("ready", ready);
+            stats.put("documents", liveDocuments);
+            stats.put("retired_documents", retiredCount);
+            stats.put("terms", postings.size());
+            stats.put("posting_bytes", postingBytes);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> topK(LongDoubleHashMap scores, int limit) {
+        PriorityQueue<long[]> heap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(entry -> Double.longBitsToDouble(entry[1])));
+        scores.forEach((doc, score) -> {
+            if (heap.size() < limit) {
+                heap.add(new long[]{doc, Double.doubleToLongBits(score)});
+            } else if (Double.longBitsToDouble(heap.peek()[1]) < score) {
+                heap.poll();
+                heap.add(new long[]{doc, Double.doubleToLongBits(score)});
+            }
+        });
+
+        String[] ranked = new String[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = articleIds[(int) heap.poll()[0]];
+        }
+        return Arrays.asList(ranked);
+    }
+
+    private void add(String articleId, String title, String description) {
+        Integer previous = ordinals.get(articleId);
+        if (previous != null) {
+            retire(previous);
+        }
+
+        int doc = documentCount++;
+        if (doc == articleIds.length) {
+            articleIds = Arrays.copyOf(articleIds, doc * 2);
+            documentLengths = Arrays.copyOf(documentLengths, doc * 2);
+            documentPostings = Arrays.copyOf(documentPostings, doc * 2);
+        }
+        List<String> titleTerms = tokenize(title);
+        List<String> descriptionTerms = tokenize(description);
+        Map<String, int[]> frequencies = new HashMap<>();
+        titleTerms.forEach(term -> frequencies.computeIfAbsent(term, k -> new int[2])[0]++);
+        descriptionTerms.forEach(term -> frequencies.computeIfAbsent(term, k -> new int[2])[1]++);
+        PostingList[] termPostings = new PostingList[frequencies.size()];
+        int[] next = {0};
+        frequencies.forEach((term, counts) -> {
+            PostingList postingList = postings.computeIfAbsent(term, k -> new PostingList());
+            postingList.add(doc, counts[0], counts[1]);
+            termPostings[next[0]++] = postingList;
+        });
+
+        float length = (float) (titleWeight * titleTerms.size() + descriptionTerms.size());
+        articleIds[doc] = articleId;
+        documentLengths[doc] = length;
+        documentPostings[doc] = termPostings;
+        ordinals.put(articleId, doc);
+        totalLength += length;
+        liveDocuments++;
+
+        if (retiredCount >= COMPACTION_MIN_RETIRED && retiredCount > COMPACTION_RETIRED_FRACTION * documentCount) {
+            compact();
+        }
+    }
+
+    private void retire(int doc) {
+        for (PostingList postingList : documentPostings[doc]) {
+            postingList.retire();
+        }
+        documentPostings[doc] = null;
+        retired.set(doc);
+        retiredCount++;
+        totalLength -= documentLengths[doc];
+        liveDocuments--;
+    }
+
+    /**
+     * Renumbers live documents densely in their original order and rewrites every posting
+     * list without the retired entries.
+     */
+    private void compact() {
+        long start = System.currentTimeMillis();
+        int[] remap = new int[documentCount];
+        int live = 0;
+        for (int doc = 0; doc < documentCount; doc++) {
+            remap[doc] = retired.get(doc) ? -1 : live++;
+        }
+
+        postings.values().removeIf(postingList -> postingList.docFrequency() == 0);
+        postings.values().forEach(postingList -> postingList.compact(retired, remap));
+        for (int doc = 0; doc < documentCount; doc++) {
+            int target = remap[doc];
+            if (target < 0) continue;
+            articleIds[target] = articleIds[doc];
+            documentLengths[target] = documentLengths[doc];
+            documentPostings[target] = documentPostings[doc];
+            ordinals.put(articleIds[target], target);
+        }
+        Arrays.fill(articleIds, live, documentCount, null);
+        Arrays.fill(documentPostings, live, documentCount, null);
+
+        log.info("BM25 index compacted {} retired documents in {} ms", retiredCount, System.currentTimeMillis() - start);
+        documentCount = live;
+        retired.clear();
+        retiredCount = 0;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (token.length() >= 2 && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,101 @@
+package com.news.retrieval.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Append-only postings of one term: for every document, the gap to the previous document
+ * ordinal followed by the term's title and description frequencies, all as varints.
+ * The document frequency only counts live documents; retired entries stay in the
+ * encoded data until {@link #compact} rewrites it.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int docFrequency;
+
+    void add(int doc, int titleFrequency, int descriptionFrequency) {
+        ensureCapacity(15);
+        writeVarint(doc - lastDoc);
+        writeVarint(titleFrequency);
+        writeVarint(descriptionFrequency);
+        lastDoc = doc;
+        docFrequency++;
+    }
+
+    void retire() {
+        docFrequency--;
+    }
+
+    int docFrequency() {
+        return docFrequency;
+    }
+
+    /**
+     * Drops the entries of {@code retired} documents and renumbers the rest through {@code remap}.
+     */
+    void compact(BitSet retired, int[] remap) {
+        byte[] old = data;
+        int oldLength = length;
+        data = new byte[Math.max(8, docFrequency * 3)];
+        length = 0;
+        lastDoc = -1;
+        docFrequency = 0;
+
+        int[] cursor = {0};
+        int doc = -1;
+        while (cursor[0] < oldLength) {
+            doc += readVarint(old, cursor);
+            int titleFrequency = readVarint(old, cursor);
+            int descriptionFrequency = readVarint(old, cursor);
+            if (!retired.get(doc)) {
+                add(remap[doc], titleFrequency, descriptionFrequency);
+            }
+        }
+    }
+
+    int sizeBytes() {
+        return data.length;
+    }
+
+    void forEach(Visitor visitor) {
+        int[] cursor = {0};
+        int doc = -1;
+        while (cursor[0] < length) {
+            doc += readVarint(data, cursor);
+            visitor.visit(doc, readVarint(data, cursor), readVarint(data, cursor));
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(int doc, int titleFrequency, int descriptionFrequency);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private static int readVarint(byte[] bytes, int[] cursor) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
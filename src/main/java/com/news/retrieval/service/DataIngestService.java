@@ -1,5 +1,6 @@
 package com.news.retrieval.service;
 
+import com.news.retrieval.cache.QueryResultCacheService;
 import com.news.retrieval.config.NewsProperties;
 import com.news.retrieval.exception.ErrorCode;
 import com.news.retrieval.exception.NewsRetrievalException;
@@ -8,14 +9,18 @@ import com.news.retrieval.repository.NewsArticleRepository;
 import com.news.retrieval.ingest.ArticleParser;
 import com.news.retrieval.ingest.DataSourceReader;
 import com.news.retrieval.ingest.DataSourceReaderFactory;
+import com.news.retrieval.search.ArticleSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 
 @Service
@@ -27,13 +32,34 @@ public class DataIngestService {
     private final NewsProperties newsProperties;
     private final ArticleParser articleParser;
     private final DataSourceReaderFactory readerFactory;
+    private final Optional<ArticleSearchIndex> searchIndex;
+    private final QueryResultCacheService queryResultCache;
 
 
     @Transactional
     public int ingest() {
         log.info("Ingesting data from configured source: {}", newsProperties.getDataSource());
         DataSourceReader reader = readerFactory.createFromConfig();
-        return ingestFrom(reader);
+        int saved = ingestFrom(reader);
+        afterCommit(queryResultCache::bumpDataVersion);
+        return saved;
+    }
+
+    /**
+     * Runs {@code action} once the surrounding ingest transaction commits, or right away when
+     * there is none, so a rolled-back ingest leaves no trace in the caches or the search index.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     protected int ingestFrom(DataSourceReader reader) {
@@ -55,7 +81,7 @@ public class DataIngestService {
         for (NewsArticle article : articles) {
             batch.add(article);
             if (batch.size() >= batchSize) {
-                articleRepository.saveAll(batch);
+                saveAndIndex(batch);
                 totalSaved += batch.size();
                 log.debug("Saved batch of {} articles.", batch.size());
                 batch.clear();
@@ -63,7 +89,7 @@ public class DataIngestService {
         }
 
         if (!batch.isEmpty()) {
-            articleRepository.saveAll(batch);
+            saveAndIndex(batch);
             totalSaved += batch.size();
         }
 
@@ -71,4 +97,12 @@ public class DataIngestService {
         return totalSaved;
     }
 
+    private void saveAndIndex(List<NewsArticle> batch) {
+        articleRepository.saveAll(batch);
+        searchIndex.ifPresent(index -> {
+            List<NewsArticle> saved = List.copyOf(batch);
+            afterCommit(() -> index.index(saved));
+        });
+    }
+
 }
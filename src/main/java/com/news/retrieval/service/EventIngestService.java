@@ -0,0 +1,203 @@
+package com.news.retrieval.service;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.dto.UserEventRequest;
+import com.news.retrieval.exception.ErrorCode;
+import com.news.retrieval.exception.NewsRetrievalException;
+import com.news.retrieval.model.UserArticleEvent;
+import com.news.retrieval.repository.UserEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Accepts user events into a bounded lock-free buffer and writes them to
+ * {@code user_article_events} in JDBC batches from a single background thread.
+ * Producers are rejected with {@link ErrorCode#EVENT_BUFFER_FULL} once the buffer
+ * is at capacity; the buffer is drained before shutdown. A batch that fails to write
+ * is retried with backoff in its own transaction and then re-queued while the buffer
+ * has room, so a transient database error does not lose accepted events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventIngestService {
+
+    private final UserEventRepository userEventRepository;
+    private final NewsProperties newsProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ConcurrentLinkedQueue<UserArticleEvent> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong requeued = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform().name("event-batch-writer").daemon().start(this::writeLoop);
+        log.info("Event batch writer started with capacity={}, batchSize={}",
+                newsProperties.getEvents().getBufferCapacity(), newsProperties.getEvents().getBatchSize());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Draining {} buffered events before shutdown...", buffered.get());
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (buffered.get() > 0) {
+            log.warn("Shutdown completed with {} events still buffered.", buffered.get());
+        }
+    }
+
+    public int submit(List<UserEventRequest> requests) {
+        List<UserArticleEvent> events = new ArrayList<>(requests.size());
+        for (UserEventRequest request : requests) {
+            events.add(toEvent(request));
+        }
+
+        int capacity = newsProperties.getEvents().getBufferCapacity();
+        if (buffered.addAndGet(events.size()) > capacity) {
+            buffered.addAndGet(-events.size());
+            rejected.addAndGet(events.size());
+            throw new NewsRetrievalException(ErrorCode.EVENT_BUFFER_FULL);
+        }
+
+        buffer.addAll(events);
+        accepted.addAndGet(events.size());
+        if (buffered.get() >= newsProperties.getEvents().getBatchSize()) {
+            LockSupport.unpark(writerThread);
+        }
+        return events.size();
+    }
+
+    public int maxRequestSize() {
+        NewsProperties.Events events = newsProperties.getEvents();
+        return Math.min(events.getMaxRequestSize(), events.getBufferCapacity());
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("buffered", buffered.get());
+        stats.put("accepted", accepted.get());
+        stats.put("rejected", rejected.get());
+        stats.put("written", written.get());
+        stats.put("retried", retried.get());
+        stats.put("requeued", requeued.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    private void writeLoop() {
+        int batchSize = newsProperties.getEvents().getBatchSize();
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(newsProperties.getEvents().getFlushIntervalMs());
+        long lastFlush = System.nanoTime();
+        List<UserArticleEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || buffered.get() > 0) {
+            boolean due = System.nanoTime() - lastFlush >= flushIntervalNanos;
+            if (running && (buffered.get() == 0 || (buffered.get() < batchSize && !due))) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+
+            UserArticleEvent event;
+            while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+                batch.add(event);
+            }
+            buffered.addAndGet(-batch.size());
+            flush(batch);
+            batch.clear();
+            lastFlush = System.nanoTime();
+        }
+    }
+
+    private void flush(List<UserArticleEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        NewsProperties.Events events = newsProperties.getEvents();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long backoffMillis = events.getRetryBackoffMs();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                written.addAndGet(transaction.execute(status -> userEventRepository.batchInsert(batch)));
+                log.debug("Wrote batch of {} user events.", batch.size());
+                return;
+            } catch (Exception e) {
+                if (attempt >= events.getWriteRetries()) {
+                    requeueOrDrop(batch, e);
+                    return;
+                }
+                retried.incrementAndGet();
+                log.warn("Failed to write batch of {} user events (attempt {}), retrying in {} ms: {}",
+                        batch.size(), attempt + 1, backoffMillis, e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+                backoffMillis *= 2;
+            }
+        }
+    }
+
+    private void requeueOrDrop(List<UserArticleEvent> batch, Exception e) {
+        int capacity = newsProperties.getEvents().getBufferCapacity();
+        if (running && buffered.addAndGet(batch.size()) <= capacity) {
+            buffer.addAll(batch);
+            requeued.addAndGet(batch.size());
+            log.error("Failed to write batch of {} user events, re-queued: {}", batch.size(), e.getMessage());
+            return;
+        }
+        if (running) {
+            buffered.addAndGet(-batch.size());
+        }
+        failed.addAndGet(batch.size());
+        log.error("Failed to write batch of {} user events, dropped: {}", batch.size(), e.getMessage());
+    }
+
+    private UserArticleEvent toEvent(UserEventRequest request) {
+        if (request == null || request.getArticleId() == null || request.getArticleId().isBlank()
+                || request.getEventType() == null || request.getLatitude() == null || request.getLongitude() == null) {
+            throw new NewsRetrievalException(ErrorCode.INVALID_EVENT);
+        }
+        if (request.getLatitude() < -90 || request.getLatitude() > 90) {
+            throw new NewsRetrievalException(ErrorCode.INVALID_LATITUDE);
+        }
+        if (request.getLongitude() < -180 || request.getLongitude() > 180) {
+            throw new NewsRetrievalException(ErrorCode.INVALID_LONGITUDE);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdAt = request.getCreatedAt() != null ? request.getCreatedAt() : now;
+        if (createdAt.isBefore(now.minus(newsProperties.getTrending().longestWindowLength()))
+                || createdAt.isAfter(now.plusSeconds(newsProperties.getEvents().getMaxClockSkewSeconds()))) {
+            throw new NewsRetrievalException(ErrorCode.INVALID_EVENT_TIMESTAMP);
+        }
+        return new UserArticleEvent(request.getArticleId(), request.getEventType(),
+                request.getLatitude(), request.getLongitude(), createdAt);
+    }
+}
@@ -0,0 +1,229 @@
+package com.news.retrieval.service;
+
+import com.news.retrieval.config.NewsProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keeps {@code user_article_events} range-partitioned by day on {@code created_at}.
+ * On startup a plain table created by Hibernate is converted in place, keeping only
+ * rows inside the retention window. Maintenance then creates partitions ahead of
+ * time and drops whole partitions once they fall out of the trending window.
+ * There is no DEFAULT partition: ingest rejects timestamps outside the partitioned
+ * range, and every schema change runs under a cluster-wide advisory lock.
+ */
+@Service
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(prefix = "news.events", name = "partitioning-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class EventPartitionService {
+
+    private static final String TABLE = "user_article_events";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('user_article_events_partitions'))";
+
+    private static final String CREATE_PARTITIONED_TABLE_SQL = """
+        CREATE TABLE user_article_events (
+            id BIGSERIAL NOT NULL,
+            article_id VARCHAR(255) NOT NULL,
+            event_type VARCHAR(255) NOT NULL CHECK (event_type IN ('VIEW', 'CLICK', 'SHARE')),
+            latitude FLOAT(53) NOT NULL,
+            longitude FLOAT(53) NOT NULL,
+            created_at TIMESTAMP(6) NOT NULL,
+            CONSTRAINT pk_user_article_events PRIMARY KEY (id, created_at)
+        ) PARTITION BY RANGE (created_at)
+    """;
+
+    private static final String COPY_LEGACY_SQL = """
+        INSERT INTO user_article_events (id, article_id, event_type, latitude, longitude, created_at)
+        SELECT id, article_id, event_type, latitude, longitude, created_at
+        FROM user_article_events_legacy
+        WHERE created_at > ?
+    """;
+
+    private static final String MOVE_DEFAULT_ROWS_SQL = """
+        INSERT INTO user_article_events (id, article_id, event_type, latitude, longitude, created_at)
+        SELECT id, article_id, event_type, latitude, longitude, created_at
+        FROM user_article_events_default
+        WHERE created_at > ? AND created_at < ?
+    """;
+
+    private static final String LIST_PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'user_article_events'::regclass
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final NewsProperties newsProperties;
+
+    @PostConstruct
+    public void migrate() {
+        Duration longestWindow = newsProperties.getTrending().longestWindowLength();
+        if (Duration.ofHours(newsProperties.getEvents().getRetentionHours()).compareTo(longestWindow) < 0) {
+            log.warn("news.events.retention-hours={} is shorter than the longest trending window {}; retaining {} instead",
+                    newsProperties.getEvents().getRetentionHours(), longestWindow, retention());
+        }
+
+        inLockedTransaction(() -> {
+            String relkind = jdbcTemplate.queryForObject(
+                    "SELECT (SELECT relkind FROM pg_class WHERE oid = to_regclass(?))::text", String.class, TABLE);
+            if (!"p".equals(relkind)) {
+                convertToPartitioned(relkind != null);
+            } else {
+                retireDefaultPartition();
+            }
+            createAndDropPartitions();
+        });
+    }
+
+    @Scheduled(fixedRateString = "${news.events.partition-maintenance-interval-ms}",
+            initialDelayString = "${news.events.partition-maintenance-interval-ms}")
+    public void maintainPartitions() {
+        try {
+            inLockedTransaction(this::createAndDropPartitions);
+        } catch (RuntimeException e) {
+            log.error("Event partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Holds a transaction-scoped advisory lock so nodes starting or maintaining together
+     * do not race on renames, copies and partition DDL.
+     */
+    private void inLockedTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(LOCK_SQL);
+            work.run();
+        });
+    }
+
+    private void createAndDropPartitions() {
+        LocalDate today = LocalDate.now();
+        int created = 0;
+        for (int day = -retentionDays(); day <= newsProperties.getEvents().getPartitionAheadDays(); day++) {
+            if (createPartition(today.plusDays(day))) {
+                created++;
+            }
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention());
+        int dropped = 0;
+        for (String partition : jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class)) {
+            LocalDate day = partitionDay(partition);
+            if (day != null && !day.plusDays(1).atStartOfDay().isAfter(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                dropped++;
+            }
+        }
+
+        if (created > 0 || dropped > 0) {
+            log.info("Event partitions: created {}, dropped {} older than {}", created, dropped, cutoff);
+        }
+    }
+
+    /**
+     * Earlier versions attached a DEFAULT partition, which blocks creating any day partition
+     * whose range it already holds rows for. Detach it, create the day partitions, move the
+     * rows that fall inside the partitioned range and drop the rest with the table.
+     */
+    private void retireDefaultPartition() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, DEFAULT_PARTITION);
+        if (!Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE user_article_events DETACH PARTITION " + DEFAULT_PARTITION);
+
+        LocalDate today = LocalDate.now();
+        for (int day = -retentionDays(); day <= newsProperties.getEvents().getPartitionAheadDays(); day++) {
+            createPartition(today.plusDays(day));
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention());
+        LocalDateTime end = today.plusDays(newsProperties.getEvents().getPartitionAheadDays() + 1L).atStartOfDay();
+        int moved = jdbcTemplate.update(MOVE_DEFAULT_ROWS_SQL, Timestamp.valueOf(cutoff), Timestamp.valueOf(end));
+        jdbcTemplate.execute("DROP TABLE " + DEFAULT_PARTITION);
+        log.info("Removed the default event partition, moved {} events into day partitions", moved);
+    }
+
+    private void convertToPartitioned(boolean legacyExists) {
+        if (legacyExists) {
+            jdbcTemplate.execute("ALTER TABLE user_article_events RENAME TO user_article_events_legacy");
+        }
+        jdbcTemplate.execute(CREATE_PARTITIONED_TABLE_SQL);
+
+        LocalDate today = LocalDate.now();
+        for (int day = -retentionDays(); day <= newsProperties.getEvents().getPartitionAheadDays(); day++) {
+            createPartition(today.plusDays(day));
+        }
+
+        if (legacyExists) {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention());
+            int copied = jdbcTemplate.update(COPY_LEGACY_SQL, Timestamp.valueOf(cutoff));
+            jdbcTemplate.execute("""
+                SELECT setval(pg_get_serial_sequence('user_article_events', 'id'),
+                              (SELECT COALESCE(MAX(id), 0) + 1 FROM user_article_events_legacy), false)
+            """);
+            jdbcTemplate.execute("DROP TABLE user_article_events_legacy");
+            log.info("Converted user_article_events to daily partitions, kept {} events since {}", copied, cutoff);
+        } else {
+            log.info("Created user_article_events as a daily-partitioned table");
+        }
+
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_uae_article_id ON user_article_events (article_id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_uae_created_at ON user_article_events (created_at)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_uae_lat_lon ON user_article_events (latitude, longitude)");
+    }
+
+    private boolean createPartition(LocalDate day) {
+        String partition = PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            return false;
+        }
+        jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF user_article_events FOR VALUES FROM ('"
+                + day + "') TO ('" + day.plusDays(1) + "')");
+        return true;
+    }
+
+    /** Configured retention, raised to the longest trending window so no window loses events. */
+    private Duration retention() {
+        Duration configured = Duration.ofHours(newsProperties.getEvents().getRetentionHours());
+        Duration longestWindow = newsProperties.getTrending().longestWindowLength();
+        return configured.compareTo(longestWindow) >= 0 ? configured : longestWindow;
+    }
+
+    private int retentionDays() {
+        return (int) Math.ceil(retention().toMinutes() / (24.0 * 60));
+    }
+
+    private static LocalDate partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
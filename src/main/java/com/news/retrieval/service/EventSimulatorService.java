@@ -0,0 +1,252 @@
+package com.news.retrieval.service;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.dto.EventSimulationRequest;
+import com.news.retrieval.exception.ErrorCode;
+import com.news.retrieval.exception.NewsRetrievalException;
+import com.news.retrieval.model.UserArticleEvent;
+import com.news.retrieval.repository.ArticleLocation;
+import com.news.retrieval.repository.NewsArticleRepository;
+import com.news.retrieval.repository.UserEventRepository;
+import com.news.retrieval.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates synthetic user events for load and capacity testing. Producers run in
+ * parallel, each with its own random stream, and write through JDBC batch inserts.
+ * Article popularity follows a Zipf distribution, a fraction of events can be
+ * concentrated around a few hotspot locations, and event age is either uniform over
+ * the window or biased towards recent events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventSimulatorService {
+
+    private static final long DEFAULT_SEED = 42L;
+    private static final double DEFAULT_WINDOW_HOURS = 24;
+
+    private final NewsArticleRepository articleRepository;
+    private final UserEventRepository userEventRepository;
+    private final NewsProperties newsProperties;
+
+    public Map<String, Object> simulate(EventSimulationRequest request) {
+        long count = request.getCount() != null ? request.getCount() : 0L;
+        int producers = request.getProducers() != null
+                ? request.getProducers() : newsProperties.getSimulation().getProducers();
+        int batchSize = request.getBatchSize() != null
+                ? request.getBatchSize() : newsProperties.getSimulation().getBatchSize();
+        double maxWindowHours = newsProperties.getTrending().longestWindowLength().toMillis() / 3_600_000.0;
+        if (count <= 0 || producers <= 0 || batchSize <= 0
+                || count > newsProperties.getSimulation().getMaxCount()
+                || producers > maxProducers() || batchSize > newsProperties.getSimulation().getMaxBatchSize()
+                || (request.getWindowHours() != null && request.getWindowHours() > maxWindowHours)) {
+            throw new NewsRetrievalException(ErrorCode.INVALID_SIMULATION);
+        }
+
+        List<ArticleLocation> articles = articleRepository.findAllLocations();
+        if (articles.isEmpty()) {
+            log.warn("No articles found to simulate events for.");
+            return report(0, producers, 0, new LongAdder[0]);
+        }
+
+        long seed = request.getSeed() != null ? request.getSeed() : DEFAULT_SEED;
+        EventGenerator generator = new EventGenerator(request, articles, newsProperties.getRadiusKm(),
+                Math.min(DEFAULT_WINDOW_HOURS, maxWindowHours), seed);
+        producers = (int) Math.min(producers, count);
+        log.info("Simulating {} user events with {} producers over {} articles...", count, producers, articles.size());
+
+        LongAdder[] typeCounts = new LongAdder[UserArticleEvent.EventType.values().length];
+        Arrays.setAll(typeCounts, i -> new LongAdder());
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        long start = System.nanoTime();
+        long written = 0;
+        try {
+            List<Future<Long>> futures = new ArrayList<>(producers);
+            for (int p = 0; p < producers; p++) {
+                long share = count / producers + (p < count % producers ? 1 : 0);
+                SplittableRandom random = new SplittableRandom(seed + p);
+                futures.add(executor.submit(() -> produce(generator, random, share, batchSize, typeCounts)));
+            }
+            for (Future<Long> future : futures) {
+                written += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NewsRetrievalException(ErrorCode.INTERNAL_ERROR, e);
+        } catch (ExecutionException e) {
+            throw new NewsRetrievalException(ErrorCode.INTERNAL_ERROR, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Simulated and saved {} user events in {} ms ({} events/s).",
+                written, elapsedMs, written * 1000 / elapsedMs);
+        return report(written, producers, elapsedMs, typeCounts);
+    }
+
+    private int maxProducers() {
+        int configured = newsProperties.getSimulation().getMaxProducers();
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    private long produce(EventGenerator generator, SplittableRandom random, long share, int batchSize,
+                         LongAdder[] typeCounts) {
+        List<UserArticleEvent> batch = new ArrayList<>((int) Math.min(batchSize, share));
+        long written = 0;
+        for (long i = 0; i < share; i++) {
+            UserArticleEvent event = generator.next(random);
+            typeCounts[event.getEventType().ordinal()].increment();
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                written += userEventRepository.batchInsert(batch);
+                batch.clear();
+            }
+        }
+        return written + userEventRepository.batchInsert(batch);
+    }
+
+    private Map<String, Object> report(long written, int producers, long elapsedMs, LongAdder[] typeCounts) {
+        Map<String, Object> byType = new LinkedHashMap<>();
+        for (int i = 0; i < typeCounts.length; i++) {
+            byType.put(UserArticleEvent.EventType.values()[i].name(), typeCounts[i].sum());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("events_simulated", written);
+        result.put("producers", producers);
+        result.put("elapsed_ms", elapsedMs);
+        result.put("events_per_second", elapsedMs > 0 ? written * 1000 / elapsedMs : 0);
+        result.put("by_event_type", byType);
+        return result;
+    }
+
+    /**
+     * Immutable sampling tables shared by all producers.
+     */
+    private static class EventGenerator {
+
+        private final String[] articleIds;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final double[] articleCdf;
+        private final int[] hotspots;
+        private final double hotspotFraction;
+        private final UserArticleEvent.EventType[] eventTypes = UserArticleEvent.EventType.values();
+        private final double[] eventTypeCdf;
+        private final double spreadKm;
+        private final double windowHours;
+        private final double decayRate;
+        private final LocalDateTime now = LocalDateTime.now();
+
+        EventGenerator(EventSimulationRequest request, List<ArticleLocation> articles, double defaultSpreadKm,
+                       double defaultWindowHours, long seed) {
+            List<ArticleLocation> ranked = new ArrayList<>(articles);
+            Collections.shuffle(ranked, new Random(seed));
+
+            int n = ranked.size();
+            articleIds = new String[n];
+            latitudes = new double[n];
+            longitudes = new double[n];
+            for (int i = 0; i < n; i++) {
+                articleIds[i] = ranked.get(i).id();
+                latitudes[i] = ranked.get(i).latitude();
+                longitudes[i] = ranked.get(i).longitude();
+            }
+
+            double skew = positiveOrDefault(request.getArticleSkew(), 0);
+            articleCdf = skew > 0 ? zipfCdf(n, skew) : null;
+
+            int hotspotCount = Math.min(n, request.getHotspotCount() != null ? request.getHotspotCount() : 0);
+            hotspots = new int[Math.max(0, hotspotCount)];
+            Arrays.setAll(hotspots, i -> i);
+            hotspotFraction = Math.min(1.0, positiveOrDefault(request.getHotspotFraction(), 0));
+
+            Map<UserArticleEvent.EventType, Double> weights = request.getEventTypeWeights() != null
+                    ? request.getEventTypeWeights() : Map.of();
+            eventTypeCdf = new double[eventTypes.length];
+            double total = 0;
+            for (int i = 0; i < eventTypes.length; i++) {
+                total += weights.isEmpty() ? 1.0 : Math.max(0, weights.getOrDefault(eventTypes[i], 0.0));
+                eventTypeCdf[i] = total;
+            }
+            if (total <= 0) {
+                throw new NewsRetrievalException(ErrorCode.INVALID_SIMULATION);
+            }
+            for (int i = 0; i < eventTypeCdf.length; i++) {
+                eventTypeCdf[i] /= total;
+            }
+
+            spreadKm = positiveOrDefault(request.getGeoSpreadKm(), defaultSpreadKm);
+            windowHours = positiveOrDefault(request.getWindowHours(), defaultWindowHours);
+            double halfLife = positiveOrDefault(request.getRecencyHalfLifeHours(), 0);
+            decayRate = halfLife > 0 ? Math.log(2) / halfLife : 0;
+        }
+
+        UserArticleEvent next(SplittableRandom random) {
+            int article = articleCdf != null ? search(articleCdf, random.nextDouble()) : random.nextInt(articleIds.length);
+
+            int centre = hotspots.length > 0 && random.nextDouble() < hotspotFraction
+                    ? hotspots[random.nextInt(hotspots.length)]
+                    : article;
+            double lat = latitudes[centre] + (random.nextDouble() - 0.5) * 2.0 * GeoUtils.latDeltaForRadius(spreadKm);
+            lat = Math.max(-90, Math.min(90, lat));
+            double lon = longitudes[centre]
+                    + (random.nextDouble() - 0.5) * 2.0 * Math.min(180, GeoUtils.lonDeltaForRadius(lat, spreadKm));
+            lon = ((lon + 180) % 360 + 360) % 360 - 180;
+
+            UserArticleEvent.EventType eventType = eventTypes[search(eventTypeCdf, random.nextDouble())];
+            return new UserArticleEvent(articleIds[article], eventType, lat, lon,
+                    now.minusNanos((long) (ageHours(random) * 3_600_000_000_000L)));
+        }
+
+        private double ageHours(SplittableRandom random) {
+            double u = random.nextDouble();
+            if (decayRate == 0) {
+                return u * windowHours;
+            }
+            return -Math.log(1 - u * (1 - Math.exp(-decayRate * windowHours))) / decayRate;
+        }
+
+        private static double[] zipfCdf(int n, double skew) {
+            double[] cdf = new double[n];
+            double total = 0;
+            for (int rank = 0; rank < n; rank++) {
+                total += 1.0 / Math.pow(rank + 1, skew);
+                cdf[rank] = total;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cdf[rank] /= total;
+            }
+            return cdf;
+        }
+
+        private static int search(double[] cdf, double u) {
+            int index = Arrays.binarySearch(cdf, u);
+            return Math.min(cdf.length - 1, index >= 0 ? index : -index - 1);
+        }
+
+        private static double positiveOrDefault(Double value, double defaultValue) {
+            return value != null && value > 0 ? value : defaultValue;
+        }
+    }
+}
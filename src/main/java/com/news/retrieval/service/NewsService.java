@@ -1,5 +1,6 @@
 package com.news.retrieval.service;
 
+import com.news.retrieval.cache.QueryResultCacheService;
 import com.news.retrieval.config.NewsProperties;
 import com.news.retrieval.dto.NewsArticleResponse;
 import com.news.retrieval.dto.NewsQueryRequest;
@@ -7,6 +8,7 @@ import com.news.retrieval.dto.QueryResponse;
 import com.news.retrieval.exception.ErrorCode;
 import com.news.retrieval.exception.NewsRetrievalException;
 import com.news.retrieval.model.NewsArticle;
+import com.news.retrieval.repository.NewsArticleRepository;
 import com.news.retrieval.strategy.IntentFetchStrategy;
 import com.news.retrieval.strategy.IntentStrategyResolver;
 import com.news.retrieval.util.NewUtils;
@@ -19,10 +21,15 @@ import jakarta.annotation.PreDestroy;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,6 +43,8 @@ public class NewsService {
     private final LlmService llmService;
     private final IntentStrategyResolver intentStrategyResolver;
     private final NewsProperties newsProperties;
+    private final QueryResultCacheService queryResultCache;
+    private final NewsArticleRepository articleRepository;
 
     @PreDestroy
     public void shutdown() {
@@ -100,14 +109,17 @@ public class NewsService {
     public List<NewsArticleResponse> fetchByCategory(String category) {
         QueryResponse queryResponse = new QueryResponse();
         queryResponse.setCategory(category);
-        List<NewsArticle> articles = fetchAndRankByIntent("category", queryResponse, category);
+        List<NewsArticle> articles = fetchCached("category", category,
+                () -> fetchAndRankByIntent("category", queryResponse, category));
         return enrichWithSummariesParallel(articles);
     }
 
     @Transactional(readOnly = true)
     public List<NewsArticleResponse> fetchByScore(double threshold) {
         QueryResponse queryResponse = new QueryResponse();
-        List<NewsArticle> articles = fetchAndRankByIntent("score", queryResponse, String.valueOf(threshold));
+        String param = String.valueOf(threshold);
+        List<NewsArticle> articles = fetchCached("score", param,
+                () -> fetchAndRankByIntent("score", queryResponse, param));
         return enrichWithSummariesParallel(articles);
     }
 
@@ -115,7 +127,8 @@ public class NewsService {
     public List<NewsArticleResponse> fetchBySearch(String query) {
         QueryResponse queryResponse = new QueryResponse();
         queryResponse.setSearchQuery(query);
-        List<NewsArticle> articles = fetchAndRankByIntent("search", queryResponse, query);
+        List<NewsArticle> articles = fetchCached("search", query,
+                () -> fetchAndRankByIntent("search", queryResponse, query));
         return enrichWithSummariesParallel(articles);
     }
 
@@ -123,7 +136,8 @@ public class NewsService {
     public List<NewsArticleResponse> fetchBySource(String source) {
         QueryResponse queryResponse = new QueryResponse();
         queryResponse.setSource(source);
-        List<NewsArticle> articles = fetchAndRankByIntent("source", queryResponse, source);
+        List<NewsArticle> articles = fetchCached("source", source,
+                () -> fetchAndRankByIntent("source", queryResponse, source));
         return enrichWithSummariesParallel(articles);
     }
 
@@ -136,6 +150,48 @@ public class NewsService {
         return enrichWithSummariesParallel(articles);
     }
 
+    /**
+     * Serves the ranked article ids from the query result cache and reloads the rows by primary
+     * key; on a miss runs {@code loader} and caches the ids it returned, unless the intent's
+     * strategy reports its current results as not cacheable.
+     */
+    private List<NewsArticle> fetchCached(String intent, String param, Supplier<List<NewsArticle>> loader) {
+        if (!queryResultCache.isEnabled()) {
+            return loader.get();
+        }
+        Optional<String> key = queryResultCache.idsKey(intent, param, newsProperties.getFetchRecordLimit());
+        if (key.isEmpty()) {
+            return loader.get();
+        }
+
+        Optional<List<String>> cachedIds = queryResultCache.getArticleIds(key.get());
+        if (cachedIds.isPresent()) {
+            log.debug("Query result cache hit for {}", key.get());
+            return loadInOrder(cachedIds.get());
+        }
+
+        boolean cacheable = intentStrategyResolver.resolve(intent)
+                .map(IntentFetchStrategy::isCacheable)
+                .orElse(true);
+        List<NewsArticle> articles = loader.get();
+        if (cacheable) {
+            queryResultCache.putArticleIds(key.get(), articles.stream().map(NewsArticle::getId).toList());
+        }
+        return articles;
+    }
+
+    private List<NewsArticle> loadInOrder(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, NewsArticle> byId = articleRepository.findAllByIdsWithCategories(ids).stream()
+                .collect(Collectors.toMap(NewsArticle::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     private List<NewsArticle> fetchAndRankByIntent(String intent, QueryResponse queryResponse, String query) {
         IntentFetchStrategy strategy = intentStrategyResolver.resolve(intent)
                 .orElseThrow(() -> new NewsRetrievalException(ErrorCode.STRATEGY_NOT_FOUND,
@@ -151,12 +207,24 @@ public class NewsService {
             return new ArrayList<>();
         }
 
+        Map<String, String> cachedSummaries = queryResultCache.isEnabled()
+                ? queryResultCache.getSummaries(articles)
+                : Map.of();
+
         List<CompletableFuture<NewsArticleResponse>> futures = articles.stream()
                 .map(article -> CompletableFuture.supplyAsync(() -> {
                     NewsArticleResponse response = NewsArticleResponse.fromEntity(article);
+                    String cached = cachedSummaries.get(article.getId());
+                    if (cached != null) {
+                        response.setLlmSummary(cached);
+                        return response;
+                    }
                     try {
                         String summary = llmService.generateSummary(article.getTitle(), article.getDescription());
                         response.setLlmSummary(summary);
+                        if (summary != null && queryResultCache.isEnabled()) {
+                            queryResultCache.putSummary(article, summary);
+                        }
                     } catch (Exception e) {
                         log.warn("Failed to generate summary for article: {}", article.getId(), e);
                         response.setLlmSummary(null);
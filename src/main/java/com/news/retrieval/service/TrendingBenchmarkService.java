@@ -0,0 +1,133 @@
+package com.news.retrieval.service;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.repository.UserEventRepository;
+import com.news.retrieval.trending.ArticleIdDictionary;
+import com.news.retrieval.trending.CellScores;
+import com.news.retrieval.trending.HeavyHitterSpec;
+import com.news.retrieval.trending.NeighbourhoodAggregator;
+import com.news.retrieval.trending.NeighbourhoodAggregator.ScoredArticle;
+import com.news.retrieval.trending.ParallelTrendingAggregator;
+import com.news.retrieval.trending.TrendingBuckets;
+import com.news.retrieval.trending.TrendingShard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares the exact and the approximate trending state on live events: one scan of a
+ * window is folded into both, then state size, fold time and per-cell top-N agreement
+ * of the materialized scores are reported. The scan and both states are held on the
+ * request thread, so the service only exists when {@code news.trending.benchmark-enabled} is set.
+ */
+@Service
+@ConditionalOnProperty(prefix = "news.trending", name = "benchmark-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingBenchmarkService {
+
+    private final UserEventRepository userEventRepository;
+    private final ParallelTrendingAggregator parallelAggregator;
+    private final NeighbourhoodAggregator neighbourhoodAggregator;
+    private final TrendingService trendingService;
+    private final NewsProperties newsProperties;
+
+    public Map<String, Object> compareApproximate(String windowName) {
+        NewsProperties.Trending trending = newsProperties.getTrending();
+        NewsProperties.Window window = trendingService.resolveWindow(windowName);
+        HeavyHitterSpec spec = HeavyHitterSpec.from(trending.getApproximate());
+        long bucketWidthMillis = Duration.ofMinutes(trending.getBucketWidthMinutes()).toMillis();
+        double radiusKm = newsProperties.getRadiusKm();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(window.getLength());
+
+        ArticleIdDictionary articles = new ArticleIdDictionary();
+        TrendingBuckets exact = new TrendingBuckets(articles, bucketWidthMillis);
+        TrendingBuckets approximate = new TrendingBuckets(articles, bucketWidthMillis, spec);
+        long[] foldNanos = new long[2];
+        TrendingShard global = TrendingShard.of(0, 1);
+
+        long events = userEventRepository.scanEvents(0L, cutoff,
+                global.scanMinLatitude(radiusKm), global.scanMaxLatitude(radiusKm),
+                trending.getScanFetchSize(), trending.getScanChunkSize(),
+                chunk -> {
+                    TrendingBuckets partial = parallelAggregator.aggregate(chunk, articles, radiusKm, bucketWidthMillis);
+                    // the approximate fold only reads the partial buckets, the exact one may adopt them
+                    long start = System.nanoTime();
+                    approximate.mergeFrom(partial);
+                    long approximateDone = System.nanoTime();
+                    exact.mergeFrom(partial);
+                    foldNanos[0] += System.nanoTime() - approximateDone;
+                    foldNanos[1] += approximateDone - start;
+                });
+
+        CellScores exactScores = exact.materialize(now, cutoff, window.getHalfLife());
+        CellScores approximateScores = approximate.materialize(now, cutoff, window.getHalfLife());
+        int topN = newsProperties.getFetchRecordLimit();
+        Map<Long, List<ScoredArticle>> exactTop = neighbourhoodAggregator.topPerCell(exactScores, topN);
+        Map<Long, List<ScoredArticle>> approximateTop = neighbourhoodAggregator.topPerCell(approximateScores, topN);
+
+        long expected = 0;
+        long matched = 0;
+        double errorSum = 0;
+        double maxError = 0;
+        Set<Integer> found = new HashSet<>();
+        for (Map.Entry<Long, List<ScoredArticle>> entry : exactTop.entrySet()) {
+            found.clear();
+            approximateTop.getOrDefault(entry.getKey(), List.of())
+                    .forEach(scored -> found.add(scored.articleOrdinal()));
+            for (ScoredArticle scored : entry.getValue()) {
+                expected++;
+                if (found.contains(scored.articleOrdinal())) {
+                    matched++;
+                }
+                double exactScore = exactScores.get(entry.getKey(), scored.articleOrdinal());
+                if (exactScore > 0) {
+                    double error = Math.abs(approximateScores.get(entry.getKey(), scored.articleOrdinal()) - exactScore)
+                            / exactScore;
+                    errorSum += error;
+                    maxError = Math.max(maxError, error);
+                }
+            }
+        }
+
+        Map<String, Object> exactStats = new LinkedHashMap<>();
+        exactStats.put("fold_ms", foldNanos[0] / 1_000_000);
+        exactStats.put("state_entries", exact.entryCount());
+        exactStats.put("buckets", exact.bucketCount());
+
+        Map<String, Object> approximateStats = new LinkedHashMap<>();
+        approximateStats.put("fold_ms", foldNanos[1] / 1_000_000);
+        approximateStats.put("state_entries", approximate.entryCount());
+        approximateStats.put("sketch_bytes", approximate.sketchBytes());
+        approximateStats.put("buckets", approximate.bucketCount());
+        approximateStats.put("capacity_per_cell", spec.capacityPerCell());
+        approximateStats.put("epsilon", spec.epsilon());
+        approximateStats.put("delta", spec.delta());
+
+        Map<String, Object> accuracy = new LinkedHashMap<>();
+        accuracy.put("cells", exactTop.size());
+        accuracy.put("top_n", topN);
+        accuracy.put("recall_at_n", expected == 0 ? 1.0 : (double) matched / expected);
+        accuracy.put("mean_relative_error", expected == 0 ? 0.0 : errorSum / expected);
+        accuracy.put("max_relative_error", maxError);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("window", window.getName());
+        result.put("events_scanned", events);
+        result.put("exact", exactStats);
+        result.put("approximate", approximateStats);
+        result.put("accuracy", accuracy);
+        log.info("Trending benchmark over {} events of window {}: {}", events, window.getName(), result);
+        return result;
+    }
+}
@@ -3,25 +3,39 @@ package com.news.retrieval.service;
 import com.news.retrieval.cache.CacheService;
 import com.news.retrieval.config.NewsProperties;
 import com.news.retrieval.dto.TrendingArticleResponse;
+import com.news.retrieval.exception.ErrorCode;
+import com.news.retrieval.exception.NewsRetrievalException;
 import com.news.retrieval.model.NewsArticle;
 import com.news.retrieval.model.TrendingScore;
-import com.news.retrieval.model.UserArticleEvent;
+import com.news.retrieval.repository.ArticleFacet;
 import com.news.retrieval.repository.NewsArticleRepository;
 import com.news.retrieval.repository.TrendingScoreRepository;
 import com.news.retrieval.repository.UserEventRepository;
+import com.news.retrieval.trending.ArticleIdDictionary;
+import com.news.retrieval.trending.ArticleScoreAccumulator;
+import com.news.retrieval.trending.CellScores;
+import com.news.retrieval.trending.FacetAggregator;
+import com.news.retrieval.trending.HeavyHitterSpec;
+import com.news.retrieval.trending.IncrementalTrendingState;
+import com.news.retrieval.trending.NeighbourhoodAggregator;
+import com.news.retrieval.trending.ParallelTrendingAggregator;
+import com.news.retrieval.trending.ShardCoordinator;
+import com.news.retrieval.trending.TrendingBuckets;
+import com.news.retrieval.trending.TrendingFilter;
+import com.news.retrieval.trending.TrendingScoreWriter;
+import com.news.retrieval.trending.TrendingShard;
 import com.news.retrieval.util.GeoUtils;
-import com.news.retrieval.util.ResponseParserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,209 +47,413 @@ public class TrendingService {
     private final NewsArticleRepository articleRepository;
     private final TrendingScoreRepository trendingScoreRepository;
     private final NewsProperties newsProperties;
-    private final CacheService<Object> cacheService;
-    private final ResponseParserUtil responseParserUtil;
+    private final CacheService<TrendingArticleResponse> cacheService;
+    private final TrendingScoreWriter trendingScoreWriter;
+    private final NeighbourhoodAggregator neighbourhoodAggregator;
+    private final ParallelTrendingAggregator parallelAggregator;
+    private final FacetAggregator facetAggregator;
+    private final ShardCoordinator shardCoordinator;
+    private final Map<TrendingShard, IncrementalTrendingState> incrementalStates = new HashMap<>();
+    private final Map<ShardWindow, Set<String>> derivedKeys = new HashMap<>();
 
-    private final static int SIMULATE_LAST_24_HOURS = 24;
+    private final static int CELL_FETCH_CHUNK_SIZE = 1000;
+    private final static String NEIGHBOURHOOD_KEY_PREFIX = "nbr:";
+    private final static String WINDOW_KEY_PREFIX = "w:";
+    private final static int MAX_EXPECTED_CANDIDATES = 4096;
 
 
+    @Scheduled(fixedRateString = "${news.trending.scheduler-interval-ms}")
     @Transactional
-    public int simulateUserEvents(int count) {
-        log.info("Simulating {} user events...", count);
-        
-        List<NewsArticle> allArticles = articleRepository.findAll();
-        if (allArticles.isEmpty()) {
-            log.warn("No articles found to simulate events for.");
-            return 0;
-        }
-
-        Random random = new Random(42);
-        UserArticleEvent.EventType[] eventTypes = UserArticleEvent.EventType.values();
-        List<UserArticleEvent> events = new ArrayList<>();
+    public void computeTrendingScores() {
+        List<TrendingShard> shards = shardCoordinator.claimShards();
+        log.info("Scheduler: Computing trending scores for {} shards...", shards.size());
 
-        for (int i = 0; i < count; i++) {
-            NewsArticle article = allArticles.get(random.nextInt(allArticles.size()));
-            UserArticleEvent.EventType eventType = eventTypes[random.nextInt(eventTypes.length)];
-            LocalDateTime createdAt = LocalDateTime.now().minusHours(random.nextInt(SIMULATE_LAST_24_HOURS));
-            
-            double simulationRadiusKm = newsProperties.getRadiusKm();
-            double latOffset = (random.nextDouble() - 0.5) * 2.0 * GeoUtils.latDeltaForRadius(simulationRadiusKm);
-            double lonOffset = (random.nextDouble() - 0.5) * 2.0 * GeoUtils.lonDeltaForRadius(article.getLatitude(), simulationRadiusKm);
-            double eventLat = article.getLatitude() + latOffset;
-            double eventLon = article.getLongitude() + lonOffset;
+        incrementalStates.keySet().retainAll(Set.copyOf(shards));
+        derivedKeys.keySet().removeIf(key -> !shards.contains(key.shard()));
 
-            events.add(new UserArticleEvent(article.getId(), eventType, eventLat, eventLon, createdAt));
+        for (TrendingShard shard : shards) {
+            computeShardScores(shard);
+            shardCoordinator.heartbeat();
         }
+    }
+
+    private void computeShardScores(TrendingShard shard) {
+        LocalDateTime now = LocalDateTime.now();
+        TrendingBuckets buckets = newsProperties.getTrending().isIncrementalEnabled()
+                ? computeIncrementalBuckets(shard, now)
+                : computeFullBuckets(shard, now);
 
-        userEventRepository.saveAll(events);
-        log.info("Simulated and saved {} user events.", events.size());
-        return events.size();
+        for (NewsProperties.Window window : newsProperties.getTrending().getWindows()) {
+            CellScores windowScores = buckets.materialize(now, now.minus(window.getLength()), window.getHalfLife());
+            if (!computeWindowScores(shard, window, windowScores)) {
+                return;
+            }
+        }
     }
 
+    /**
+     * Rewrites the window's scores for the shard's cells, then deletes the rows this run did not
+     * touch, so articles with no events left in the window drop out instead of keeping their last
+     * score. Cells that lost all their rows are evicted from the cache, as are the neighbourhood and
+     * facet lists this node published for the shard last run but not in this one.
+     */
+    private boolean computeWindowScores(TrendingShard shard, NewsProperties.Window window, CellScores scannedScores) {
+        if (!shardCoordinator.holds(shard)) {
+            log.warn("Scheduler: Lease on shard {} lost during computation, discarding results.", shard.index());
+            incrementalStates.remove(shard);
+            return false;
+        }
+        CellScores cellScores = shard.isGlobal() ? scannedScores : scannedScores.retainCells(shard::owns);
+        String windowPrefix = windowKeyPrefix(window);
+
+        LocalDateTime runStart = trendingScoreRepository.currentTimestamp();
+        int upsertCount = cellScores.isEmpty() ? 0 : trendingScoreWriter.write(cellScores, window.getName());
+        long[] updatedCellIds = cellScores.cellIds();
+        Set<String> updatedGeoCells = Arrays.stream(updatedCellIds)
+                .mapToObj(GeoUtils::toGeoCell)
+                .collect(Collectors.toSet());
+
+        List<String> droppedKeys = trendingScoreRepository.deleteScoresUpdatedBefore(window.getName(), runStart,
+                        shard.minLatIndex(), shard.maxLatIndex()).stream()
+                .filter(geoCell -> !updatedGeoCells.contains(geoCell))
+                .map(geoCell -> windowPrefix + geoCell)
+                .toList();
+        cacheService.evictAll(droppedKeys);
+
+        log.info("Scheduler: Upserted {} {} trending scores across {} geo-cells of shard {}, dropped {} geo-cells.",
+                upsertCount, window.getName(), updatedCellIds.length, shard.index(), droppedKeys.size());
+
+        Set<String> publishedKeys = new HashSet<>();
+        if (cellScores.isEmpty()) {
+            log.info("Scheduler: No recent events to process for window {} of shard {}.", window.getName(), shard.index());
+        } else {
+            int cacheUpdateCount = 0;
+            Duration cacheTtl = Duration.ofMinutes(newsProperties.getTrending().getCacheTtlMinutes());
+            List<String> updatedKeys = updatedGeoCells.stream()
+                    .map(geoCell -> windowPrefix + geoCell)
+                    .toList();
+
+            for (int from = 0; from < updatedKeys.size(); from += CELL_FETCH_CHUNK_SIZE) {
+                List<String> chunk = updatedKeys.subList(from, Math.min(from + CELL_FETCH_CHUNK_SIZE, updatedKeys.size()));
+                Map<String, List<TrendingArticleResponse>> trendingData = fetchTrendingDataFromDb(chunk, windowPrefix,
+                        window.getName(), TrendingFilter.NONE, newsProperties.getFetchRecordLimit());
+
+                cacheService.putLists(trendingData, cacheTtl);
+                cacheUpdateCount += trendingData.size();
+            }
 
-    @Scheduled(fixedRateString = "${news.trending.scheduler-interval-ms}")
-    @Transactional
-    public void computeTrendingScores() {
-        log.info("Scheduler: Computing trending scores...");
+            log.info("Scheduler: Updated {} cache for {} geo-cells.", window.getName(), cacheUpdateCount);
 
-        LocalDateTime cutoff = LocalDateTime.now().minusHours(SIMULATE_LAST_24_HOURS);
-        List<UserArticleEvent> recentEvents = userEventRepository.findByCreatedAtAfter(cutoff);
-        log.info("Scheduler: Found {} recent events since {}", recentEvents.size(), cutoff);
+            publishedKeys.addAll(refreshNeighbourhoodCache(scannedScores, shard, windowPrefix, cacheTtl));
+            if (newsProperties.getTrending().isFacetsEnabled()) {
+                publishedKeys.addAll(refreshFacetCache(cellScores, windowPrefix, cacheTtl));
+            }
+        }
 
-        if (recentEvents.isEmpty()) {
-            log.info("Scheduler: No recent events to process.");
-            return;
+        Set<String> previousKeys = derivedKeys.put(new ShardWindow(shard, window.getName()), publishedKeys);
+        if (previousKeys != null) {
+            previousKeys.removeAll(publishedKeys);
+            cacheService.evictAll(previousKeys);
         }
+        return true;
+    }
 
-        double radiusKm = newsProperties.getRadiusKm();
-        Map<String, Map<String, Double>> geoCellScores = new HashMap<>();
-
-        for (UserArticleEvent event : recentEvents) {
-            Set<String> nearbyCells = GeoUtils.getGeoCellsWithinRadius(
-                    event.getLatitude(),
-                    event.getLongitude(),
-                    radiusKm
-            );
-
-            double hoursSinceEvent = Duration.between(event.getCreatedAt(), LocalDateTime.now()).toHours();
-            double recencyDecay = Math.exp(-hoursSinceEvent / SIMULATE_LAST_24_HOURS);
-            double eventScore = event.getEventType().getWeight() * recencyDecay;
-
-            for (String geoCell : nearbyCells) {
-                geoCellScores
-                        .computeIfAbsent(geoCell, k -> new HashMap<>())
-                        .merge(event.getArticleId(), eventScore, Double::sum);
+    private Set<String> refreshNeighbourhoodCache(CellScores cellScores, TrendingShard shard, String windowPrefix,
+                                                  Duration cacheTtl) {
+        Map<Long, List<NeighbourhoodAggregator.ScoredArticle>> neighbourhoods = neighbourhoodAggregator.aggregate(
+                cellScores,
+                newsProperties.getRadiusKm(),
+                newsProperties.getFetchRecordLimit(),
+                newsProperties.getTrending().getNeighbourhoodTopK());
+
+        Map<String, List<NeighbourhoodAggregator.ScoredArticle>> centres = new HashMap<>();
+        neighbourhoods.forEach((cellId, scoredArticles) -> {
+            if (shard.owns(cellId)) {
+                centres.put(windowPrefix + NEIGHBOURHOOD_KEY_PREFIX + GeoUtils.toGeoCell(cellId), scoredArticles);
             }
-        }
+        });
 
-        int upsertCount = 0;
-        Set<String> updatedGeoCells = new HashSet<>();
+        Map<String, List<TrendingArticleResponse>> cacheLists = toCacheLists(centres, cellScores.articles());
+        cacheService.putLists(cacheLists, cacheTtl);
+        log.info("Scheduler: Updated neighbourhood top-{} cache for {} centre cells.",
+                newsProperties.getTrending().getNeighbourhoodTopK(), cacheLists.size());
+        return cacheLists.keySet();
+    }
 
-        for (Map.Entry<String, Map<String, Double>> cellEntry : geoCellScores.entrySet()) {
-            String geoCell = cellEntry.getKey();
-            Map<String, Double> articleScores = cellEntry.getValue();
+    private Set<String> refreshFacetCache(CellScores cellScores, String windowPrefix, Duration cacheTtl) {
+        ArticleIdDictionary articles = cellScores.articles();
+        List<String> articleIds = new ArrayList<>(articles.size());
+        for (int ordinal = 0; ordinal < articles.size(); ordinal++) {
+            articleIds.add(articles.articleId(ordinal));
+        }
 
-            for (Map.Entry<String, Double> articleEntry : articleScores.entrySet()) {
-                double roundedScore = BigDecimal.valueOf(articleEntry.getValue())
-                        .setScale(3, RoundingMode.HALF_UP)
-                        .doubleValue();
-                trendingScoreRepository.upsertScore(geoCell, articleEntry.getKey(), roundedScore);
-                upsertCount++;
+        Map<String, List<String>> facetPrefixes = new HashMap<>();
+        for (int from = 0; from < articleIds.size(); from += CELL_FETCH_CHUNK_SIZE) {
+            for (ArticleFacet facet : articleRepository.findFacetsByIds(
+                    articleIds.subList(from, Math.min(from + CELL_FETCH_CHUNK_SIZE, articleIds.size())))) {
+                List<String> prefixes = facetPrefixes.computeIfAbsent(facet.id(), k -> new ArrayList<>(3));
+                addFacetPrefix(prefixes, facet.sourceName(), source -> windowPrefix + TrendingFilter.sourcePrefix(source));
+                addFacetPrefix(prefixes, facet.categoryName(),
+                        category -> windowPrefix + TrendingFilter.categoryPrefix(category));
             }
-            updatedGeoCells.add(geoCell);
         }
 
-        log.info("Scheduler: Upserted {} trending scores across {} geo-cells.", upsertCount, updatedGeoCells.size());
+        Map<String, List<NeighbourhoodAggregator.ScoredArticle>> facetCells = facetAggregator.aggregate(cellScores,
+                ordinal -> facetPrefixes.getOrDefault(articles.articleId(ordinal), List.of()),
+                newsProperties.getFetchRecordLimit());
 
-        int cacheUpdateCount = 0;
-        long cacheTtlMinutes = newsProperties.getTrending().getCacheTtlMinutes();
+        Map<String, List<TrendingArticleResponse>> cacheLists = toCacheLists(facetCells, articles);
+        cacheService.putLists(cacheLists, cacheTtl);
+        log.info("Scheduler: Updated category and source trending cache for {} facet cells.", cacheLists.size());
+        return cacheLists.keySet();
+    }
 
-        for (String geoCell : updatedGeoCells) {
+    private static void addFacetPrefix(List<String> prefixes, String value, Function<String, String> prefixOf) {
+        if (value == null || value.isBlank()) return;
+        String prefix = prefixOf.apply(value);
+        if (!prefixes.contains(prefix)) {
+            prefixes.add(prefix);
+        }
+    }
 
-            List<TrendingArticleResponse> trendingData = fetchTrendingDataFromDb(geoCell, newsProperties.getFetchRecordLimit());
+    private Map<String, List<TrendingArticleResponse>> toCacheLists(
+            Map<String, List<NeighbourhoodAggregator.ScoredArticle>> scoredLists, ArticleIdDictionary articles) {
+        List<String> articleIds = scoredLists.values().stream()
+                .flatMap(List::stream)
+                .map(scored -> articles.articleId(scored.articleOrdinal()))
+                .distinct()
+                .toList();
+        Map<String, NewsArticle> articleMap = new HashMap<>();
+        for (int from = 0; from < articleIds.size(); from += CELL_FETCH_CHUNK_SIZE) {
+            articleRepository.findAllByIdsWithCategories(
+                            articleIds.subList(from, Math.min(from + CELL_FETCH_CHUNK_SIZE, articleIds.size())))
+                    .forEach(article -> articleMap.put(article.getId(), article));
+        }
 
-            if (!trendingData.isEmpty()) {
-                boolean updated = cacheService.updateWithLock(
-                        geoCell,
-                        (List<Object>) (List<?>) trendingData,
-                        Duration.ofMinutes(cacheTtlMinutes));
-                if (updated) {
-                    cacheUpdateCount++;
+        Map<String, List<TrendingArticleResponse>> cacheLists = new HashMap<>();
+        scoredLists.forEach((key, scoredArticles) -> {
+            List<TrendingArticleResponse> responses = new ArrayList<>(scoredArticles.size());
+            for (NeighbourhoodAggregator.ScoredArticle scored : scoredArticles) {
+                NewsArticle article = articleMap.get(articles.articleId(scored.articleOrdinal()));
+                if (article != null) {
+                    responses.add(toTrendingResponse(article, scored.score()));
                 }
             }
+            if (!responses.isEmpty()) {
+                cacheLists.put(key, responses);
+            }
+        });
+        return cacheLists;
+    }
+
+
+    private TrendingBuckets computeFullBuckets(TrendingShard shard, LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(longestWindow());
+
+        TrendingBuckets buckets = new TrendingBuckets(new ArticleIdDictionary(), bucketWidthMillis(), heavyHitterSpec());
+        long scanned = scanEvents(shard, buckets, 0L, cutoff, eventId -> true);
+        log.info("Scheduler: Streamed {} recent events since {} for shard {}", scanned, cutoff, shard.index());
+        return buckets;
+    }
+
+    private TrendingBuckets computeIncrementalBuckets(TrendingShard shard, LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(longestWindow());
+        IncrementalTrendingState state = incrementalStates.computeIfAbsent(shard,
+                key -> new IncrementalTrendingState(newsProperties.getTrending().getWatermarkOverlapIds()));
+
+        if (!state.isInitialized()) {
+            state.reset(bucketWidthMillis(), heavyHitterSpec());
+            long scanned = foldNewEvents(shard, state, cutoff);
+            log.info("Scheduler: Rebuilt incremental trending state of shard {} from {} events since {}, watermark={}",
+                    shard.index(), scanned, cutoff, state.getWatermarkId());
+            return state.getBuckets();
         }
 
-        log.info("Scheduler: Updated cache for {} geo-cells.", cacheUpdateCount);
+        long scanned = foldNewEvents(shard, state, cutoff);
+        TrendingBuckets buckets = state.getBuckets();
+        int expiredBuckets = buckets.expireBefore(cutoff);
+
+        log.info("Scheduler: Folded {} new events into shard {}, expired {} buckets, live buckets={}, watermark={}",
+                scanned, shard.index(), expiredBuckets, buckets.bucketCount(), state.getWatermarkId());
+        return buckets;
     }
 
+    private long foldNewEvents(TrendingShard shard, IncrementalTrendingState state, LocalDateTime cutoff) {
+        try {
+            long afterId = state.beginFold();
+            long scanned = scanEvents(shard, state.getBuckets(), afterId, cutoff, state::markFolded);
+            state.completeFold();
+            return scanned;
+        } catch (RuntimeException e) {
+            state.invalidate();
+            throw e;
+        }
+    }
 
-    public List<TrendingArticleResponse> getTrendingNearby(double lat, double lon, int limit) {
-        return getTrendingNearby(lat, lon, newsProperties.getRadiusKm(), limit);
+    private long scanEvents(TrendingShard shard, TrendingBuckets buckets, long afterId, LocalDateTime since,
+                            LongPredicate accept) {
+        NewsProperties.Trending trending = newsProperties.getTrending();
+        double radiusKm = newsProperties.getRadiusKm();
+        return userEventRepository.scanEvents(afterId, since,
+                shard.scanMinLatitude(radiusKm), shard.scanMaxLatitude(radiusKm),
+                trending.getScanFetchSize(), trending.getScanChunkSize(),
+                chunk -> {
+                    chunk.removeIf(row -> !accept.test(row.id()));
+                    if (!chunk.isEmpty()) {
+                        buckets.mergeFrom(parallelAggregator.aggregate(chunk, buckets.articles(),
+                                radiusKm, bucketWidthMillis()));
+                    }
+                });
+    }
+
+    private long bucketWidthMillis() {
+        return Duration.ofMinutes(newsProperties.getTrending().getBucketWidthMinutes()).toMillis();
     }
 
-    public List<TrendingArticleResponse> getTrendingNearby(double lat, double lon, double radiusKm, int limit) {
-        Set<String> geoCells = GeoUtils.getGeoCellsWithinRadius(lat, lon, radiusKm);
-        long cacheTtlMinutes = newsProperties.getTrending().getCacheTtlMinutes();
+    /**
+     * Sizing of the approximate trending state, or {@code null} when scores are kept exactly.
+     */
+    private HeavyHitterSpec heavyHitterSpec() {
+        NewsProperties.Approximate approximate = newsProperties.getTrending().getApproximate();
+        return approximate.isEnabled() ? HeavyHitterSpec.from(approximate) : null;
+    }
 
-        Map<String, TrendingArticleResponse> aggregated = new HashMap<>();
+    private Duration longestWindow() {
+        return newsProperties.getTrending().getWindows().stream()
+                .map(NewsProperties.Window::getLength)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+    }
 
-        for (String geoCell : geoCells) {
-            Optional<List<Object>> cachedOptional = cacheService.getList(geoCell);
-            List<TrendingArticleResponse> cellData;
+    public NewsProperties.Window resolveWindow(String name) {
+        String windowName = name == null || name.isBlank() ? newsProperties.getTrending().getDefaultWindow() : name.trim();
+        return newsProperties.getTrending().getWindows().stream()
+                .filter(window -> window.getName().equalsIgnoreCase(windowName))
+                .findFirst()
+                .orElseThrow(() -> new NewsRetrievalException(ErrorCode.INVALID_TRENDING_WINDOW));
+    }
 
-            if (cachedOptional.isPresent()) {
-                log.debug("Cache HIT for geoCell={}", geoCell);
-                cellData = convertCachedData(cachedOptional.get());
-            } else {
-                log.debug("Cache MISS for geoCell={}. Querying DB...", geoCell);
-                cellData = fetchTrendingDataFromDb(geoCell, newsProperties.getFetchRecordLimit());
+    /**
+     * The default window keeps the bare cell keys it has always used; other windows are namespaced.
+     */
+    private String windowKeyPrefix(NewsProperties.Window window) {
+        return window.getName().equals(newsProperties.getTrending().getDefaultWindow())
+                ? ""
+                : WINDOW_KEY_PREFIX + window.getName() + ":";
+    }
 
-                if (!cellData.isEmpty()) {
-                    cacheService.updateWithLock(geoCell, (List<Object>) (List<?>) cellData, Duration.ofMinutes(cacheTtlMinutes));
-                    log.debug("Cached {} trending articles for geoCell={} with TTL={}min", cellData.size(), geoCell, cacheTtlMinutes);
-                }
-            }
 
-            for (TrendingArticleResponse article : cellData) {
-                aggregated.merge(article.getUrl(), article, (existing, newOne) ->
-                        TrendingArticleResponse.builder()
-                                .title(existing.getTitle())
-                                .description(existing.getDescription())
-                                .url(existing.getUrl())
-                                .publicationDate(existing.getPublicationDate())
-                                .sourceName(existing.getSourceName())
-                                .category(existing.getCategory())
-                                .trendingScore(existing.getTrendingScore() + newOne.getTrendingScore())
-                                .build()
-                );
+    public List<TrendingArticleResponse> getTrendingNearby(double lat, double lon, int limit) {
+        return getTrendingNearby(lat, lon, newsProperties.getRadiusKm(), limit, null, TrendingFilter.NONE);
+    }
+
+    public List<TrendingArticleResponse> getTrendingNearby(double lat, double lon, int limit, String window,
+                                                           TrendingFilter filter) {
+        return getTrendingNearby(lat, lon, newsProperties.getRadiusKm(), limit, window, filter);
+    }
+
+    public List<TrendingArticleResponse> getTrendingNearby(double lat, double lon, double radiusKm, int limit,
+                                                           String windowName, TrendingFilter filter) {
+        NewsProperties.Window window = resolveWindow(windowName);
+        String windowPrefix = windowKeyPrefix(window);
+        if (filter.isUnfiltered() && radiusKm == newsProperties.getRadiusKm()
+                && limit <= newsProperties.getTrending().getNeighbourhoodTopK()) {
+            String neighbourhoodKey = windowPrefix + NEIGHBOURHOOD_KEY_PREFIX + GeoUtils.toGeoCell(lat, lon);
+            Optional<List<TrendingArticleResponse>> precomputed = cacheService.getList(neighbourhoodKey);
+            if (precomputed.isPresent()) {
+                log.debug("Neighbourhood cache HIT for key={}", neighbourhoodKey);
+                return precomputed.get().stream()
+                        .limit(limit)
+                        .collect(Collectors.toList());
             }
         }
 
-        return aggregated.values().stream()
-                .sorted(Comparator.comparingDouble(TrendingArticleResponse::getTrendingScore).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        String keyPrefix = windowPrefix + filter.keyPrefix();
+        Set<String> cacheKeys = GeoUtils.getGeoCellsWithinRadius(lat, lon, radiusKm).stream()
+                .map(geoCell -> keyPrefix + geoCell)
+                .collect(Collectors.toSet());
+        Duration cacheTtl = Duration.ofMinutes(newsProperties.getTrending().getCacheTtlMinutes());
+        Function<Collection<String>, Map<String, List<TrendingArticleResponse>>> loader =
+                keys -> fetchTrendingDataFromDb(keys, keyPrefix, window.getName(), filter,
+                        newsProperties.getFetchRecordLimit());
+
+        Optional<List<TrendingArticleResponse>> merged = cacheService.unionTopK(cacheKeys, limit, loader, cacheTtl);
+        if (merged.isPresent()) {
+            return merged.get();
+        }
+
+        Map<String, List<TrendingArticleResponse>> cached = cacheService.getListsOrLoad(cacheKeys, loader, cacheTtl);
+        log.debug("Resolved {} of {} geo-cells through the cache", cached.size(), cacheKeys.size());
+
+        ArticleScoreAccumulator accumulator = new ArticleScoreAccumulator(
+                Math.min(MAX_EXPECTED_CANDIDATES, cached.size() * newsProperties.getFetchRecordLimit()));
+        for (List<TrendingArticleResponse> cellData : cached.values()) {
+            cellData.forEach(accumulator::add);
+        }
+        return accumulator.top(limit);
     }
 
-    private List<TrendingArticleResponse> convertCachedData(List<Object> cachedList) {
-        return cachedList.stream()
-                .map(obj -> responseParserUtil.convertValue(obj, TrendingArticleResponse.class))
-                .collect(Collectors.toList());
+    private Map<String, List<TrendingArticleResponse>> fetchTrendingDataFromDb(Collection<String> keys, String keyPrefix,
+                                                                              String window, TrendingFilter filter,
+                                                                              int limit) {
+        List<String> geoCells = keys.stream().map(key -> key.substring(keyPrefix.length())).toList();
+        List<TrendingScore> scores;
+        if (filter.category() != null) {
+            scores = trendingScoreRepository.findTopByGeoCellsAndCategory(window, geoCells, filter.category(), limit);
+        } else if (filter.source() != null) {
+            scores = trendingScoreRepository.findTopByGeoCellsAndSource(window, geoCells, filter.source(), limit);
+        } else {
+            scores = trendingScoreRepository.findTopByGeoCells(window, geoCells, limit);
+        }
+
+        Map<String, List<TrendingArticleResponse>> cellLists = toCellLists(scores);
+        if (keyPrefix.isEmpty()) {
+            return cellLists;
+        }
+        Map<String, List<TrendingArticleResponse>> result = new HashMap<>();
+        cellLists.forEach((geoCell, articles) -> result.put(keyPrefix + geoCell, articles));
+        return result;
     }
 
-    private List<TrendingArticleResponse> fetchTrendingDataFromDb(String geoCell, int limit) {
-        List<TrendingScore> scores = trendingScoreRepository.findTopByGeoCell(geoCell, limit);
+    private Map<String, List<TrendingArticleResponse>> toCellLists(List<TrendingScore> scores) {
 
         if (scores.isEmpty()) {
-            return List.of();
+            return Map.of();
         }
 
         List<String> articleIds = scores.stream()
                 .map(TrendingScore::getArticleId)
+                .distinct()
                 .toList();
 
         List<NewsArticle> articles = articleRepository.findAllByIdsWithCategories(articleIds);
         Map<String, NewsArticle> articleMap = articles.stream()
                 .collect(Collectors.toMap(NewsArticle::getId, a -> a));
 
-        List<TrendingArticleResponse> result = new ArrayList<>();
+        Map<String, List<TrendingArticleResponse>> result = new HashMap<>();
         for (TrendingScore ts : scores) {
             NewsArticle article = articleMap.get(ts.getArticleId());
             if (article == null) continue;
 
-            TrendingArticleResponse response = TrendingArticleResponse.builder()
-                    .title(article.getTitle())
-                    .description(article.getDescription())
-                    .url(article.getUrl())
-                    .publicationDate(article.getPublicationDate())
-                    .sourceName(article.getSourceName())
-                    .category(article.getCategoryList())
-                    .trendingScore(ts.getScore())
-                    .build();
+            TrendingArticleResponse response = toTrendingResponse(article, ts.getScore());
 
-            result.add(response);
+            result.computeIfAbsent(ts.getGeoCell(), k -> new ArrayList<>()).add(response);
         }
 
         return result;
     }
+
+    private TrendingArticleResponse toTrendingResponse(NewsArticle article, double score) {
+        return TrendingArticleResponse.builder()
+                .title(article.getTitle())
+                .description(article.getDescription())
+                .url(article.getUrl())
+                .publicationDate(article.getPublicationDate())
+                .sourceName(article.getSourceName())
+                .category(article.getCategoryList())
+                .trendingScore(score)
+                .build();
+    }
+
+    private record ShardWindow(TrendingShard shard, String window) {}
 }
@@ -14,4 +14,11 @@ public interface IntentFetchStrategy {
     List<NewsArticle> fetch(QueryResponse analysis, String query, int limit);
 
     List<NewsArticle> rank(List<NewsArticle> articles, QueryResponse queryResponse, String originalQuery);
+
+    /**
+     * Whether results fetched right now may be stored in the query result cache.
+     */
+    default boolean isCacheable() {
+        return true;
+    }
 }
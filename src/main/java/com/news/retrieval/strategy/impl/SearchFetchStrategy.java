@@ -1,13 +1,14 @@
 package com.news.retrieval.strategy.impl;
 
+import com.news.retrieval.config.NewsProperties;
 import com.news.retrieval.dto.QueryResponse;
 import com.news.retrieval.model.NewsArticle;
 import com.news.retrieval.repository.NewsArticleRepository;
+import com.news.retrieval.repository.RankedArticle;
+import com.news.retrieval.search.ArticleSearchIndex;
 import com.news.retrieval.strategy.IntentFetchStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -19,6 +20,8 @@ import java.util.stream.Collectors;
 public class SearchFetchStrategy implements IntentFetchStrategy {
 
     private final NewsArticleRepository articleRepository;
+    private final Optional<ArticleSearchIndex> searchIndex;
+    private final NewsProperties newsProperties;
 
     @Override
     public String getIntent() {
@@ -35,25 +38,70 @@ public class SearchFetchStrategy implements IntentFetchStrategy {
         String searchQuery = analysis.getSearchQuery() != null ? analysis.getSearchQuery() : query;
         log.debug("Searching articles for: {}", searchQuery);
 
-        ArrayList<NewsArticle> newsArticles = new ArrayList<>();
+        if (searchIndex.isPresent() && searchIndex.get().isReady()) {
+            return fetchFromIndex(searchIndex.get(), searchQuery, limit);
+        }
+
         try {
-            List<String> ids = articleRepository.fullTextSearchIds(searchQuery, limit, 0);
-            if (!ids.isEmpty()) {
-                newsArticles.addAll(articleRepository.findAllByIdsWithCategories(ids));
-                log.info("Articles found Based on query : {}", newsArticles);
-                return newsArticles;
+            long start = System.nanoTime();
+            List<RankedArticle> ranked = articleRepository.fullTextSearch(searchQuery, limit);
+            log.info("Full-text search matched {} articles in {} ms", ranked.size(), (System.nanoTime() - start) / 1_000_000);
+            if (!ranked.isEmpty()) {
+                return ranked.stream().map(RankedArticle::toArticle).collect(Collectors.toList());
             }
         } catch (Exception e) {
-            log.warn("Full-text search failed, falling back to LIKE search: {}", e.getMessage());
+            log.warn("Full-text search failed, falling back to substring search: {}", e.getMessage());
         }
-         newsArticles.addAll(fallbackLikeSearch(searchQuery, limit));
-         log.info("Articles found Based on query but based on fallback : {}", newsArticles);
-         return newsArticles;
+        List<NewsArticle> newsArticles = fallbackSubstringSearch(searchQuery, limit);
+        log.info("Articles found Based on query but based on fallback : {}", newsArticles.size());
+        return newsArticles;
+    }
+
+    /**
+     * Results served from full-text search while the index is still warming up are not cached,
+     * so they do not outlive the warm-up under the current data version.
+     */
+    @Override
+    public boolean isCacheable() {
+        return searchIndex.map(ArticleSearchIndex::isReady).orElse(true);
     }
 
     @Override
     public List<NewsArticle> rank(List<NewsArticle> articles, QueryResponse queryResponse, String originalQuery) {
-        String queryLower = originalQuery.toLowerCase();
+        if (!newsProperties.getSearch().isRerankEnabled()) {
+            return articles;
+        }
+        return rankByTextMatch(articles, originalQuery);
+    }
+
+    private List<NewsArticle> fetchFromIndex(ArticleSearchIndex index, String searchQuery, int limit) {
+        long start = System.nanoTime();
+        List<String> ids = index.search(searchQuery, limit);
+        log.info("Search index matched {} ids in {} ms", ids.size(), (System.nanoTime() - start) / 1_000_000);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, NewsArticle> byId = articleRepository.findAllByIdsWithCategories(ids).stream()
+                .collect(Collectors.toMap(NewsArticle::getId, article -> article));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<NewsArticle> fallbackSubstringSearch(String searchQuery, int limit) {
+        List<String> terms = Arrays.stream(searchQuery.toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(term -> term.length() >= 2)
+                .distinct()
+                .collect(Collectors.toList());
+        return articleRepository.substringSearch(terms, limit).stream()
+                .map(RankedArticle::toArticle)
+                .collect(Collectors.toList());
+    }
+
+    private List<NewsArticle> rankByTextMatch(List<NewsArticle> articles, String query) {
+        String queryLower = query.toLowerCase();
         return articles.stream()
                 .sorted(Comparator.comparingDouble((NewsArticle a) -> {
                     double textScore = computeTextMatchScore(a, queryLower);
@@ -63,17 +111,6 @@ public class SearchFetchStrategy implements IntentFetchStrategy {
                 .collect(Collectors.toList());
     }
 
-    private List<NewsArticle> fallbackLikeSearch(String searchQuery, int limit) {
-        String[] terms = searchQuery.split("\\s+");
-        Set<NewsArticle> combined = new LinkedHashSet<>();
-        Pageable pageable = PageRequest.of(0, limit);
-        for (String term : terms) {
-            if (term.length() < 2) continue;
-            combined.addAll(articleRepository.searchByTerm(term, pageable));
-        }
-        return combined.stream().limit(limit).collect(Collectors.toList());
-    }
-
     private double computeTextMatchScore(NewsArticle article, String queryLower) {
         double score = 0.0;
         String[] queryTerms = queryLower.split("\\s+");
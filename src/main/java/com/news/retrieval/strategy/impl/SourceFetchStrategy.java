@@ -3,10 +3,10 @@ package com.news.retrieval.strategy.impl;
 import com.news.retrieval.dto.QueryResponse;
 import com.news.retrieval.model.NewsArticle;
 import com.news.retrieval.repository.NewsArticleRepository;
+import com.news.retrieval.repository.RankedArticle;
 import com.news.retrieval.strategy.IntentFetchStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.Comparator;
@@ -33,7 +33,9 @@ public class SourceFetchStrategy implements IntentFetchStrategy {
     @Override
     public List<NewsArticle> fetch(QueryResponse analysis, String query, int limit) {
         log.debug("Fetching articles from source: {}", analysis.getSource());
-        var articles = articleRepository.findBySource(analysis.getSource(), PageRequest.of(0, limit));
+        var articles = articleRepository.findBySourceContaining(analysis.getSource(), limit).stream()
+                .map(RankedArticle::toArticle)
+                .collect(Collectors.toList());
         log.info("Articles from source: {}", articles);
         return articles;
     }
@@ -0,0 +1,40 @@
+package com.news.retrieval.trending;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps article ids to dense int ordinals so that (cell, article) pairs can be
+ * packed into a single primitive key.
+ */
+public class ArticleIdDictionary {
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> articleIds = new ArrayList<>();
+
+    public int ordinal(String articleId) {
+        Integer ordinal = ordinals.get(articleId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int next = articleIds.size();
+        ordinals.put(articleId, next);
+        articleIds.add(articleId);
+        return next;
+    }
+
+    public String articleId(int ordinal) {
+        return articleIds.get(ordinal);
+    }
+
+    public int size() {
+        return articleIds.size();
+    }
+
+    public void clear() {
+        ordinals.clear();
+        articleIds.clear();
+    }
+}
@@ -0,0 +1,84 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.dto.TrendingArticleResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Sums per-cell trending scores by article URL for a radius read. Scores are kept in
+ * a primitive array indexed by the order articles were first seen, alongside the first
+ * cached response for each; responses are only rebuilt for the top-K winners.
+ */
+public final class ArticleScoreAccumulator {
+
+    private final Map<String, Integer> ordinals;
+    private final List<TrendingArticleResponse> firstSeen;
+    private double[] scores;
+
+    public ArticleScoreAccumulator(int expectedArticles) {
+        this.ordinals = new HashMap<>(Math.max(16, expectedArticles * 2));
+        this.firstSeen = new ArrayList<>(expectedArticles);
+        this.scores = new double[Math.max(16, expectedArticles)];
+    }
+
+    public void add(TrendingArticleResponse article) {
+        int next = firstSeen.size();
+        Integer ordinal = ordinals.putIfAbsent(article.getUrl(), next);
+        if (ordinal != null) {
+            scores[ordinal] += article.getTrendingScore();
+            return;
+        }
+        if (next == scores.length) {
+            scores = Arrays.copyOf(scores, next * 2);
+        }
+        scores[next] = article.getTrendingScore();
+        firstSeen.add(article);
+    }
+
+    public int size() {
+        return firstSeen.size();
+    }
+
+    /**
+     * Selects the {@code limit} highest summed scores with a bounded min-heap and returns
+     * them as fresh responses, highest first.
+     */
+    public List<TrendingArticleResponse> top(int limit) {
+        if (limit <= 0 || firstSeen.isEmpty()) {
+            return List.of();
+        }
+        Comparator<Integer> byScore = Comparator.comparingDouble(ordinal -> scores[ordinal]);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(limit, firstSeen.size()) + 1, byScore);
+        for (int ordinal = 0; ordinal < firstSeen.size(); ordinal++) {
+            if (heap.size() < limit) {
+                heap.add(ordinal);
+            } else if (scores[heap.peek()] < scores[ordinal]) {
+                heap.poll();
+                heap.add(ordinal);
+            }
+        }
+
+        List<Integer> winners = new ArrayList<>(heap);
+        winners.sort(byScore.reversed());
+        List<TrendingArticleResponse> result = new ArrayList<>(winners.size());
+        for (int ordinal : winners) {
+            TrendingArticleResponse article = firstSeen.get(ordinal);
+            result.add(TrendingArticleResponse.builder()
+                    .title(article.getTitle())
+                    .description(article.getDescription())
+                    .url(article.getUrl())
+                    .publicationDate(article.getPublicationDate())
+                    .sourceName(article.getSourceName())
+                    .category(article.getCategory())
+                    .trendingScore(scores[ordinal])
+                    .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,111 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.util.GeoUtils;
+import com.news.retrieval.util.LongDoubleHashMap;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Trending scores per (geo-cell, article) pair, keyed by the packed cell id in
+ * the high 32 bits and the article ordinal in the low 32 bits.
+ */
+public class CellScores {
+
+    private final LongDoubleHashMap scores;
+    private final ArticleIdDictionary articles;
+
+    public CellScores(ArticleIdDictionary articles) {
+        this(articles, 1024);
+    }
+
+    public CellScores(ArticleIdDictionary articles, int expectedSize) {
+        this.articles = articles;
+        this.scores = new LongDoubleHashMap(expectedSize);
+    }
+
+    public static long key(long cellId, int articleOrdinal) {
+        return (cellId << 32) | articleOrdinal;
+    }
+
+    public static long cellOf(long key) {
+        return key >>> 32;
+    }
+
+    public static int articleOf(long key) {
+        return (int) key;
+    }
+
+    public void add(long cellId, int articleOrdinal, double delta) {
+        scores.addTo(key(cellId, articleOrdinal), delta);
+    }
+
+    public double get(long cellId, int articleOrdinal) {
+        return scores.get(key(cellId, articleOrdinal));
+    }
+
+    /**
+     * Adds {@code delta} to the article in every cell described by a
+     * {@link com.news.retrieval.util.GeoCellTemplate} offset array around the given cell indices.
+     */
+    public void addAround(int latIndex, int lonIndex, int[] offsets, int articleOrdinal, double delta) {
+        for (int k = 0; k < offsets.length; k += 2) {
+            long cellId = GeoUtils.cellId(latIndex + offsets[k], lonIndex + offsets[k + 1]);
+            scores.addTo(key(cellId, articleOrdinal), delta);
+        }
+    }
+
+    public void mergeFrom(CellScores other) {
+        other.scores.forEach(scores::addTo);
+    }
+
+    public void mergeScaled(CellScores other, double factor) {
+        other.scores.forEach((key, score) -> scores.addTo(key, score * factor));
+    }
+
+    public CellScores retainCells(LongPredicate keepCell) {
+        CellScores retained = new CellScores(articles, scores.size());
+        scores.forEach((key, score) -> {
+            if (keepCell.test(cellOf(key))) {
+                retained.scores.addTo(key, score);
+            }
+        });
+        return retained;
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    public boolean isEmpty() {
+        return scores.isEmpty();
+    }
+
+    public ArticleIdDictionary articles() {
+        return articles;
+    }
+
+    public void forEach(Consumer consumer) {
+        scores.forEach((key, score) -> consumer.accept(cellOf(key), articleOf(key), score));
+    }
+
+    public long[] cellIds() {
+        long[] cells = new long[scores.size()];
+        int[] count = {0};
+        scores.forEach((key, score) -> cells[count[0]++] = cellOf(key));
+        Arrays.sort(cells, 0, count[0]);
+
+        int distinct = 0;
+        for (int i = 0; i < count[0]; i++) {
+            if (distinct == 0 || cells[distinct - 1] != cells[i]) {
+                cells[distinct++] = cells[i];
+            }
+        }
+        return Arrays.copyOf(cells, distinct);
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long cellId, int articleOrdinal, double score);
+    }
+}
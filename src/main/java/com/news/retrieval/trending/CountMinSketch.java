@@ -0,0 +1,74 @@
+package com.news.retrieval.trending;
+
+/**
+ * Count-min sketch over {@code long} keys with {@code double} weights. An estimate never
+ * undercounts, and overcounts by at most {@link #epsilon(int)} times the total added weight
+ * with probability at least {@code 1 - }{@link #delta(int)}.
+ */
+public class CountMinSketch {
+
+    private static final long ROW_SEED = 0xC2B2AE3D27D4EB4FL;
+
+    private final int width;
+    private final int depth;
+    private final int mask;
+    private final double[] table;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = tableWidth(width);
+        this.depth = tableDepth(depth);
+        this.mask = this.width - 1;
+        this.table = new double[this.width * this.depth];
+    }
+
+    public void add(long key, double weight) {
+        for (int row = 0; row < depth; row++) {
+            table[row * width + slot(key, row)] += weight;
+        }
+    }
+
+    public double estimate(long key) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, table[row * width + slot(key, row)]);
+        }
+        return estimate;
+    }
+
+    public long sizeBytes() {
+        return (long) table.length * Double.BYTES;
+    }
+
+    /**
+     * Width actually allocated for a requested width: the next power of two, at least 16.
+     */
+    public static int tableWidth(int width) {
+        return Math.max(16, Integer.highestOneBit(Math.max(1, width - 1)) << 1);
+    }
+
+    public static int tableDepth(int depth) {
+        return Math.max(1, depth);
+    }
+
+    /**
+     * Relative overcount bound of a sketch created with the requested {@code width}.
+     */
+    public static double epsilon(int width) {
+        return Math.E / tableWidth(width);
+    }
+
+    /**
+     * Probability that an estimate of a sketch created with the requested {@code depth} exceeds the bound.
+     */
+    public static double delta(int depth) {
+        return Math.exp(-tableDepth(depth));
+    }
+
+    private int slot(long key, int row) {
+        long h = key * 0x9E3779B97F4A7C15L + (row + 1) * ROW_SEED;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
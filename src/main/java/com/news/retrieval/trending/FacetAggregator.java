@@ -0,0 +1,43 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.trending.NeighbourhoodAggregator.ScoredArticle;
+import com.news.retrieval.util.GeoUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+
+/**
+ * Splits per-cell trending scores into one top-N list per (facet, cell), where the
+ * facets of an article are the {@link TrendingFilter} key prefixes of its categories
+ * and source. The result is keyed by facet prefix plus geo-cell, ready to cache.
+ */
+@Component
+public class FacetAggregator {
+
+    public Map<String, List<ScoredArticle>> aggregate(CellScores cellScores,
+                                                      IntFunction<List<String>> facetPrefixes,
+                                                      int perCellLimit) {
+        Map<String, PriorityQueue<ScoredArticle>> heaps = new HashMap<>();
+        Map<Long, String> geoCells = new HashMap<>();
+
+        cellScores.forEach((cellId, article, score) -> {
+            List<String> prefixes = facetPrefixes.apply(article);
+            if (prefixes.isEmpty()) return;
+            String geoCell = geoCells.computeIfAbsent(cellId, GeoUtils::toGeoCell);
+            ScoredArticle candidate = new ScoredArticle(article, TrendingScoreWriter.roundScore(score));
+            for (String prefix : prefixes) {
+                NeighbourhoodAggregator.offer(heaps.computeIfAbsent(prefix + geoCell,
+                                k -> new PriorityQueue<>(perCellLimit + 1, NeighbourhoodAggregator.BY_SCORE)),
+                        candidate, perCellLimit);
+            }
+        });
+
+        Map<String, List<ScoredArticle>> facetCells = new HashMap<>(heaps.size() * 2);
+        heaps.forEach((key, heap) -> facetCells.put(key, NeighbourhoodAggregator.drainDescending(heap)));
+        return facetCells;
+    }
+}
@@ -0,0 +1,55 @@
+package com.news.retrieval.trending;
+
+import java.util.BitSet;
+
+/**
+ * Event ids already folded into trending state, remembered only for the top {@code span}
+ * ids below the highest id seen. Bit {@code i} stands for id {@code base + 1 + i}; the base
+ * is moved up lazily so the set never holds more than {@code 2 * span} bits.
+ */
+final class FoldedIdWindow {
+
+    private final long span;
+    private long base;
+    private long maxId;
+    private BitSet ids = new BitSet();
+
+    FoldedIdWindow(long span) {
+        this.span = Math.max(1L, span);
+    }
+
+    private FoldedIdWindow(FoldedIdWindow other) {
+        this.span = other.span;
+        this.base = other.base;
+        this.maxId = other.maxId;
+        this.ids = (BitSet) other.ids.clone();
+    }
+
+    FoldedIdWindow copy() {
+        return new FoldedIdWindow(this);
+    }
+
+    boolean contains(long id) {
+        return id > base && id <= maxId && ids.get((int) (id - base - 1));
+    }
+
+    void add(long id) {
+        maxId = Math.max(maxId, id);
+        if (maxId - base > 2 * span) {
+            rebase(maxId - span);
+        }
+        if (id > base) {
+            ids.set((int) (id - base - 1));
+        }
+    }
+
+    long maxId() {
+        return maxId;
+    }
+
+    private void rebase(long newBase) {
+        long shift = newBase - base;
+        ids = shift >= ids.length() ? new BitSet() : ids.get((int) shift, ids.length());
+        base = newBase;
+    }
+}
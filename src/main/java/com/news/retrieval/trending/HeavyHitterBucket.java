@@ -0,0 +1,92 @@
+package com.news.retrieval.trending;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trending weights of one time bucket in fixed memory per cell. Each cell keeps at most
+ * {@code capacityPerCell} article counters maintained with weighted Space-Saving, and a
+ * count-min sketch over (cell, article) keys is shared by all cells of the bucket.
+ * <p>
+ * A tracked article with true weight {@code w} in cell {@code c} is reported with weight
+ * {@code w'} where {@code w <= w' <= w + min(W_c / capacityPerCell, epsilon * W)}, {@code W_c}
+ * being the cell's total weight and {@code W} the bucket's; the sketch term holds with
+ * probability at least {@code 1 - delta}. Every article with {@code w > W_c / capacityPerCell}
+ * is tracked.
+ */
+public class HeavyHitterBucket {
+
+    private final int capacityPerCell;
+    private final CountMinSketch sketch;
+    private final Map<Long, CellSummary> cells = new HashMap<>();
+
+    public HeavyHitterBucket(HeavyHitterSpec spec) {
+        this.capacityPerCell = Math.max(1, spec.capacityPerCell());
+        this.sketch = new CountMinSketch(spec.sketchWidth(), spec.sketchDepth());
+    }
+
+    public void addAll(CellScores weights) {
+        weights.forEach((cellId, article, weight) -> {
+            sketch.add(CellScores.key(cellId, article), weight);
+            cells.computeIfAbsent(cellId, id -> new CellSummary(capacityPerCell)).offer(article, weight);
+        });
+    }
+
+    /**
+     * Adds every tracked counter, tightened by the sketch estimate and scaled by {@code factor}, to {@code result}.
+     */
+    public void materializeInto(CellScores result, double factor) {
+        cells.forEach((cellId, summary) -> {
+            for (int i = 0; i < summary.size; i++) {
+                double estimate = Math.min(summary.weights[i],
+                        sketch.estimate(CellScores.key(cellId, summary.articles[i])));
+                result.add(cellId, summary.articles[i], estimate * factor);
+            }
+        });
+    }
+
+    public int entryCount() {
+        int entries = 0;
+        for (CellSummary summary : cells.values()) {
+            entries += summary.size;
+        }
+        return entries;
+    }
+
+    public long sketchBytes() {
+        return sketch.sizeBytes();
+    }
+
+    private static final class CellSummary {
+
+        private final int[] articles;
+        private final double[] weights;
+        private int size;
+
+        CellSummary(int capacity) {
+            articles = new int[capacity];
+            weights = new double[capacity];
+        }
+
+        void offer(int article, double weight) {
+            int min = 0;
+            for (int i = 0; i < size; i++) {
+                if (articles[i] == article) {
+                    weights[i] += weight;
+                    return;
+                }
+                if (weights[i] < weights[min]) {
+                    min = i;
+                }
+            }
+            if (size < articles.length) {
+                articles[size] = article;
+                weights[size] = weight;
+                size++;
+                return;
+            }
+            articles[min] = article;
+            weights[min] += weight;
+        }
+    }
+}
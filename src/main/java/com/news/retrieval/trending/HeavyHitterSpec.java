@@ -0,0 +1,23 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.config.NewsProperties;
+
+/**
+ * Sizing of the approximate trending buckets: article counters kept per cell and the
+ * dimensions of the count-min sketch shared by all cells of a bucket.
+ */
+public record HeavyHitterSpec(int capacityPerCell, int sketchWidth, int sketchDepth) {
+
+    public static HeavyHitterSpec from(NewsProperties.Approximate approximate) {
+        return new HeavyHitterSpec(approximate.getCapacityPerCell(),
+                approximate.getSketchWidth(), approximate.getSketchDepth());
+    }
+
+    public double epsilon() {
+        return CountMinSketch.epsilon(sketchWidth);
+    }
+
+    public double delta() {
+        return CountMinSketch.delta(sketchDepth);
+    }
+}
@@ -0,0 +1,66 @@
+package com.news.retrieval.trending;
+
+import lombok.Getter;
+
+/**
+ * Bucketed trending counters of one shard kept between scheduler runs, plus the id
+ * of the last event folded into them. Ids are allocated at insert but become visible
+ * at commit, so a lower id can show up after a higher one: each run re-scans the last
+ * {@code overlapIds} ids below the watermark and skips the ones it already folded.
+ */
+public class IncrementalTrendingState {
+
+    private final long overlapIds;
+    @Getter
+    private TrendingBuckets buckets;
+    @Getter
+    private long watermarkId;
+    @Getter
+    private boolean initialized;
+    private FoldedIdWindow folded;
+    private FoldedIdWindow folding;
+
+    public IncrementalTrendingState(long overlapIds) {
+        this.overlapIds = overlapIds;
+    }
+
+    public void reset(long bucketWidthMillis, HeavyHitterSpec heavyHitters) {
+        buckets = new TrendingBuckets(new ArticleIdDictionary(), bucketWidthMillis, heavyHitters);
+        watermarkId = 0L;
+        folded = new FoldedIdWindow(overlapIds);
+        folding = null;
+        initialized = true;
+    }
+
+    public void invalidate() {
+        buckets = null;
+        folded = null;
+        folding = null;
+        initialized = false;
+    }
+
+    /**
+     * Starts a fold and returns the id to scan above: the watermark minus the overlap.
+     */
+    public long beginFold() {
+        folding = folded.copy();
+        return Math.max(0L, watermarkId - overlapIds);
+    }
+
+    /**
+     * Records {@code eventId} for the running fold; false when an earlier fold already counted it.
+     */
+    public boolean markFolded(long eventId) {
+        if (folded.contains(eventId)) {
+            return false;
+        }
+        folding.add(eventId);
+        return true;
+    }
+
+    public void completeFold() {
+        folded = folding;
+        folding = null;
+        watermarkId = Math.max(watermarkId, folded.maxId());
+    }
+}
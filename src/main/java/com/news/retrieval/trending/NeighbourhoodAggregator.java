@@ -0,0 +1,81 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.util.GeoCellTemplate;
+import com.news.retrieval.util.GeoUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Builds, for every cell with trending data, the radius-summed top-K list that a
+ * {@code /trending} request centred in that cell would otherwise assemble from
+ * the per-cell lists at read time.
+ */
+@Component
+public class NeighbourhoodAggregator {
+
+    static final Comparator<ScoredArticle> BY_SCORE = Comparator.comparingDouble(ScoredArticle::score);
+
+    public record ScoredArticle(int articleOrdinal, double score) {
+    }
+
+    public Map<Long, List<ScoredArticle>> aggregate(CellScores cellScores, double radiusKm,
+                                                    int perCellLimit, int topK) {
+        Map<Long, List<ScoredArticle>> perCell = topPerCell(cellScores, perCellLimit);
+        GeoCellTemplate template = GeoCellTemplate.forRadius(radiusKm);
+
+        Map<Long, List<ScoredArticle>> neighbourhoods = new HashMap<>(perCell.size() * 2);
+        Map<Integer, Double> sums = new HashMap<>();
+
+        for (Long centreCell : perCell.keySet()) {
+            sums.clear();
+            int latIndex = GeoUtils.cellLatIndex(centreCell);
+            int lonIndex = GeoUtils.cellLonIndex(centreCell);
+            int[] offsets = template.offsets(latIndex);
+
+            for (int k = 0; k < offsets.length; k += 2) {
+                List<ScoredArticle> cellTop = perCell.get(GeoUtils.cellId(latIndex + offsets[k], lonIndex + offsets[k + 1]));
+                if (cellTop == null) continue;
+                for (ScoredArticle article : cellTop) {
+                    sums.merge(article.articleOrdinal(), article.score(), Double::sum);
+                }
+            }
+
+            PriorityQueue<ScoredArticle> heap = new PriorityQueue<>(topK + 1, BY_SCORE);
+            sums.forEach((article, score) -> offer(heap, new ScoredArticle(article, score), topK));
+            neighbourhoods.put(centreCell, drainDescending(heap));
+        }
+        return neighbourhoods;
+    }
+
+    public Map<Long, List<ScoredArticle>> topPerCell(CellScores cellScores, int perCellLimit) {
+        Map<Long, PriorityQueue<ScoredArticle>> heaps = new HashMap<>();
+        cellScores.forEach((cellId, article, score) -> offer(
+                heaps.computeIfAbsent(cellId, k -> new PriorityQueue<>(perCellLimit + 1, BY_SCORE)),
+                new ScoredArticle(article, TrendingScoreWriter.roundScore(score)), perCellLimit));
+
+        Map<Long, List<ScoredArticle>> perCell = new HashMap<>(heaps.size() * 2);
+        heaps.forEach((cellId, heap) -> perCell.put(cellId, drainDescending(heap)));
+        return perCell;
+    }
+
+    static void offer(PriorityQueue<ScoredArticle> heap, ScoredArticle candidate, int limit) {
+        if (heap.size() < limit) {
+            heap.add(candidate);
+        } else if (heap.peek().score() < candidate.score()) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    static List<ScoredArticle> drainDescending(PriorityQueue<ScoredArticle> heap) {
+        List<ScoredArticle> sorted = new ArrayList<>(heap);
+        sorted.sort(BY_SCORE.reversed());
+        return sorted;
+    }
+}
@@ -0,0 +1,106 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.repository.UserEventRow;
+import com.news.retrieval.util.GeoCellTemplate;
+import com.news.retrieval.util.GeoUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Folds events into {@link TrendingBuckets} on a fork/join pool. The event list is split
+ * into id-ordered ranges, each range accumulates into its own local buckets, and the
+ * partial buckets are merged pairwise as the tasks join.
+ */
+@Component
+@Slf4j
+public class ParallelTrendingAggregator {
+
+    private final ForkJoinPool pool;
+    private final int minEventsPerPartition;
+
+    public ParallelTrendingAggregator(NewsProperties newsProperties) {
+        NewsProperties.Trending trending = newsProperties.getTrending();
+        int parallelism = trending.getParallelism() > 0
+                ? trending.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        this.minEventsPerPartition = trending.getMinEventsPerPartition();
+        log.info("Trending aggregation pool initialized with parallelism={}", parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public TrendingBuckets aggregate(List<UserEventRow> events, ArticleIdDictionary articles,
+                                     double radiusKm, long bucketWidthMillis) {
+        int[] ordinals = new int[events.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = articles.ordinal(events.get(i).articleId());
+        }
+
+        GeoCellTemplate template = GeoCellTemplate.forRadius(radiusKm);
+        return pool.invoke(new FoldTask(events, ordinals, 0, events.size(), articles, template, bucketWidthMillis));
+    }
+
+    private class FoldTask extends RecursiveTask<TrendingBuckets> {
+
+        private final List<UserEventRow> events;
+        private final int[] ordinals;
+        private final int from;
+        private final int to;
+        private final ArticleIdDictionary articles;
+        private final GeoCellTemplate template;
+        private final long bucketWidthMillis;
+
+        FoldTask(List<UserEventRow> events, int[] ordinals, int from, int to, ArticleIdDictionary articles,
+                 GeoCellTemplate template, long bucketWidthMillis) {
+            this.events = events;
+            this.ordinals = ordinals;
+            this.from = from;
+            this.to = to;
+            this.articles = articles;
+            this.template = template;
+            this.bucketWidthMillis = bucketWidthMillis;
+        }
+
+        @Override
+        protected TrendingBuckets compute() {
+            if (to - from <= minEventsPerPartition) {
+                return fold();
+            }
+            int mid = (from + to) >>> 1;
+            FoldTask right = new FoldTask(events, ordinals, mid, to, articles, template, bucketWidthMillis);
+            right.fork();
+            TrendingBuckets left = new FoldTask(events, ordinals, from, mid, articles, template, bucketWidthMillis).compute();
+            TrendingBuckets merged = right.join();
+
+            if (left.entryCount() >= merged.entryCount()) {
+                left.mergeFrom(merged);
+                return left;
+            }
+            merged.mergeFrom(left);
+            return merged;
+        }
+
+        private TrendingBuckets fold() {
+            TrendingBuckets local = new TrendingBuckets(articles, bucketWidthMillis);
+            for (int i = from; i < to; i++) {
+                UserEventRow event = events.get(i);
+                int latIndex = GeoUtils.latIndex(event.latitude());
+                int lonIndex = GeoUtils.lonIndex(event.longitude());
+                local.bucket(local.bucketIndex(event.createdAt()))
+                        .addAround(latIndex, lonIndex, template.offsets(latIndex), ordinals[i],
+                                event.eventType().getWeight());
+            }
+            return local;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.util.GeoUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Splits trending work into latitude-band shards and hands them out across nodes
+ * through Redis leases. Band edges are event-latitude quantiles over the longest
+ * trending window, computed by whichever node first finds them missing and shared
+ * through Redis until {@code rebalance-interval-ms} expires them. Every node heartbeats
+ * into a shared node set, claims up to its fair share of unleased shards and keeps
+ * renewing the leases it holds. When a node dies its leases expire and the surviving
+ * nodes pick the shards up on their next run. With sharding disabled the node computes a single global shard.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShardCoordinator {
+
+    private static final String LEASE_KEY_PREFIX = "trending:shard:";
+    private static final String NODES_KEY = "trending:nodes";
+    private static final String BOUNDS_KEY_PREFIX = "trending:shard-bounds:";
+
+    private static final String LATITUDE_QUANTILES_SQL = """
+        SELECT percentile_disc(%s) WITHIN GROUP (ORDER BY latitude)
+        FROM user_article_events
+        WHERE created_at > ?
+    """;
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsProperties newsProperties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Integer> heldShards = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Renews held leases, rebalances towards this node's fair share and returns the
+     * shards this node should compute in this run.
+     */
+    public List<TrendingShard> claimShards() {
+        NewsProperties.Sharding sharding = newsProperties.getTrending().getSharding();
+        if (!sharding.isEnabled()) {
+            return List.of(TrendingShard.of(0, 1));
+        }
+        int shardCount = Math.max(1, sharding.getShardCount());
+        int[] bounds;
+
+        try {
+            bounds = shardBounds(shardCount);
+            heartbeat();
+            long now = System.currentTimeMillis();
+            Long liveNodes = stringRedisTemplate.opsForZSet()
+                    .count(NODES_KEY, now - sharding.getLeaseTtlMs(), Double.POSITIVE_INFINITY);
+            int fairShare = (int) Math.ceil((double) shardCount / Math.max(1, liveNodes == null ? 1 : liveNodes));
+
+            List<Integer> held = new ArrayList<>(new TreeSet<>(heldShards));
+            for (int i = held.size() - 1; i >= fairShare; i--) {
+                release(held.get(i));
+            }
+
+            Duration leaseTtl = Duration.ofMillis(sharding.getLeaseTtlMs());
+            int start = Math.floorMod(nodeId.hashCode(), shardCount);
+            for (int k = 0; k < shardCount && heldShards.size() < fairShare; k++) {
+                int shard = (start + k) % shardCount;
+                if (!heldShards.contains(shard) && Boolean.TRUE.equals(
+                        stringRedisTemplate.opsForValue().setIfAbsent(LEASE_KEY_PREFIX + shard, nodeId, leaseTtl))) {
+                    heldShards.add(shard);
+                    log.info("Claimed trending shard {}/{}", shard, shardCount);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Could not coordinate trending shards, skipping this run: {}", e.getMessage());
+            return List.of();
+        }
+
+        return new TreeSet<>(heldShards).stream()
+                .map(shard -> TrendingShard.of(shard, bounds))
+                .toList();
+    }
+
+    public boolean holds(TrendingShard shard) {
+        return !newsProperties.getTrending().getSharding().isEnabled() || heldShards.contains(shard.index());
+    }
+
+    @Scheduled(fixedRateString = "${news.trending.sharding.heartbeat-interval-ms}")
+    public void heartbeat() {
+        NewsProperties.Sharding sharding = newsProperties.getTrending().getSharding();
+        if (!sharding.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - sharding.getLeaseTtlMs());
+
+        for (Integer shard : heldShards) {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY_PREFIX + shard),
+                    nodeId, String.valueOf(sharding.getLeaseTtlMs()));
+            if (renewed == null || renewed == 0) {
+                heldShards.remove(shard);
+                log.warn("Lost lease on trending shard {}", shard);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!newsProperties.getTrending().getSharding().isEnabled()) {
+            return;
+        }
+        try {
+            for (Integer shard : List.copyOf(heldShards)) {
+                release(shard);
+            }
+            stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("Could not release trending shard leases on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private int[] shardBounds(int shardCount) {
+        if (shardCount == 1) {
+            return TrendingShard.equalBounds(1);
+        }
+        String key = BOUNDS_KEY_PREFIX + shardCount;
+        String stored = stringRedisTemplate.opsForValue().get(key);
+        if (stored == null) {
+            Duration ttl = Duration.ofMillis(newsProperties.getTrending().getSharding().getRebalanceIntervalMs());
+            stringRedisTemplate.opsForValue().setIfAbsent(key, formatBounds(densityBounds(shardCount)), ttl);
+            stored = stringRedisTemplate.opsForValue().get(key);
+        }
+        int[] bounds = stored != null ? parseBounds(stored) : null;
+        return bounds != null && bounds.length == shardCount + 1 ? bounds : TrendingShard.equalBounds(shardCount);
+    }
+
+    /**
+     * Band edges at the 1/n, 2/n, ... quantiles of recent event latitudes, kept strictly
+     * increasing so no band is empty; equal-width bands when there are no events.
+     */
+    private int[] densityBounds(int shardCount) {
+        StringBuilder fractions = new StringBuilder("ARRAY[");
+        for (int k = 1; k < shardCount; k++) {
+            fractions.append(k > 1 ? "," : "").append((double) k / shardCount);
+        }
+        fractions.append("]::float8[]");
+
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minus(newsProperties.getTrending().longestWindowLength()));
+        Double[] quantiles = jdbcTemplate.query(LATITUDE_QUANTILES_SQL.formatted(fractions), rs -> {
+            Array array = rs.next() ? rs.getArray(1) : null;
+            return array == null ? null : (Double[]) array.getArray();
+        }, since);
+        if (quantiles == null || quantiles.length != shardCount - 1) {
+            return TrendingShard.equalBounds(shardCount);
+        }
+
+        int[] bounds = new int[shardCount + 1];
+        bounds[0] = -GeoUtils.MAX_LAT_INDEX;
+        bounds[shardCount] = GeoUtils.MAX_LAT_INDEX + 1;
+        for (int k = 1; k < shardCount; k++) {
+            int edge = quantiles[k - 1] == null ? bounds[k - 1] + 1 : GeoUtils.latIndex(quantiles[k - 1]) + 1;
+            bounds[k] = Math.min(Math.max(edge, bounds[k - 1] + 1), bounds[shardCount] - (shardCount - k));
+        }
+        log.info("Computed trending shard bounds from event density: {}", Arrays.toString(bounds));
+        return bounds;
+    }
+
+    private static String formatBounds(int[] bounds) {
+        return Arrays.stream(bounds).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static int[] parseBounds(String value) {
+        try {
+            return Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void release(int shard) {
+        heldShards.remove(shard);
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + shard), nodeId);
+        log.info("Released trending shard {}", shard);
+    }
+}
@@ -0,0 +1,148 @@
+package com.news.retrieval.trending;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Undecayed event weights per (cell, article), split into fixed-width time buckets.
+ * Recency decay is applied once per bucket when the buckets are materialized, and
+ * buckets that fall entirely before the window cutoff are dropped as a whole.
+ * <p>
+ * Created with a {@link HeavyHitterSpec}, merged weights are kept in fixed-size
+ * {@link HeavyHitterBucket}s instead of exact tables. Buckets written directly through
+ * {@link #bucket(long)} are always exact, so per-chunk folds stay exact and only the
+ * long-lived state is approximated.
+ */
+public class TrendingBuckets {
+
+    private final ArticleIdDictionary articles;
+    private final long bucketWidthMillis;
+    private final HeavyHitterSpec heavyHitters;
+    private final NavigableMap<Long, CellScores> buckets = new TreeMap<>();
+    private final NavigableMap<Long, HeavyHitterBucket> summaries = new TreeMap<>();
+
+    private long lastIndex = Long.MIN_VALUE;
+    private CellScores lastBucket;
+
+    public TrendingBuckets(ArticleIdDictionary articles, long bucketWidthMillis) {
+        this(articles, bucketWidthMillis, null);
+    }
+
+    public TrendingBuckets(ArticleIdDictionary articles, long bucketWidthMillis, HeavyHitterSpec heavyHitters) {
+        this.articles = articles;
+        this.bucketWidthMillis = bucketWidthMillis;
+        this.heavyHitters = heavyHitters;
+    }
+
+    public boolean isApproximate() {
+        return heavyHitters != null;
+    }
+
+    public ArticleIdDictionary articles() {
+        return articles;
+    }
+
+    public long bucketIndex(LocalDateTime time) {
+        return Math.floorDiv(time.toInstant(ZoneOffset.UTC).toEpochMilli(), bucketWidthMillis);
+    }
+
+    public CellScores bucket(long index) {
+        if (index != lastIndex) {
+            lastBucket = buckets.computeIfAbsent(index, k -> new CellScores(articles));
+            lastIndex = index;
+        }
+        return lastBucket;
+    }
+
+    public void mergeFrom(TrendingBuckets other) {
+        if (heavyHitters != null) {
+            other.buckets.forEach((index, weights) ->
+                    summaries.computeIfAbsent(index, k -> new HeavyHitterBucket(heavyHitters)).addAll(weights));
+            return;
+        }
+        for (Map.Entry<Long, CellScores> entry : other.buckets.entrySet()) {
+            CellScores existing = buckets.get(entry.getKey());
+            if (existing == null) {
+                buckets.put(entry.getKey(), entry.getValue());
+            } else {
+                existing.mergeFrom(entry.getValue());
+            }
+        }
+        lastIndex = Long.MIN_VALUE;
+    }
+
+    /**
+     * Drops buckets that end at or before the cutoff. The bucket containing the
+     * cutoff is kept, so expiry happens at bucket granularity.
+     */
+    public int expireBefore(LocalDateTime cutoff) {
+        long cutoffIndex = bucketIndex(cutoff);
+        Map<Long, CellScores> expired = buckets.headMap(cutoffIndex, false);
+        Map<Long, HeavyHitterBucket> expiredSummaries = summaries.headMap(cutoffIndex, false);
+        int count = expired.size() + expiredSummaries.size();
+        expired.clear();
+        expiredSummaries.clear();
+        lastIndex = Long.MIN_VALUE;
+        return count;
+    }
+
+    /**
+     * Sums the buckets from the one containing {@code cutoff} onwards into one table, weighting
+     * each bucket by {@code 2^(-age / halfLife)} where age is measured to the bucket midpoint.
+     * Several windows can be materialized from the same buckets with different cutoffs.
+     */
+    public CellScores materialize(LocalDateTime now, LocalDateTime cutoff, Duration halfLife) {
+        long nowMillis = now.toInstant(ZoneOffset.UTC).toEpochMilli();
+        double decayPerMilli = Math.log(2) / halfLife.toMillis();
+        NavigableMap<Long, CellScores> window = buckets.tailMap(bucketIndex(cutoff), true);
+        NavigableMap<Long, HeavyHitterBucket> summaryWindow = summaries.tailMap(bucketIndex(cutoff), true);
+        int entries = 0;
+        for (CellScores bucket : window.values()) {
+            entries += bucket.size();
+        }
+        for (HeavyHitterBucket summary : summaryWindow.values()) {
+            entries += summary.entryCount();
+        }
+        CellScores result = new CellScores(articles, entries);
+
+        for (Map.Entry<Long, CellScores> entry : window.entrySet()) {
+            result.mergeScaled(entry.getValue(), decay(entry.getKey(), nowMillis, decayPerMilli));
+        }
+        for (Map.Entry<Long, HeavyHitterBucket> entry : summaryWindow.entrySet()) {
+            entry.getValue().materializeInto(result, decay(entry.getKey(), nowMillis, decayPerMilli));
+        }
+        return result;
+    }
+
+    private double decay(long index, long nowMillis, double decayPerMilli) {
+        long midpointMillis = index * bucketWidthMillis + bucketWidthMillis / 2;
+        return Math.exp(-Math.max(0, nowMillis - midpointMillis) * decayPerMilli);
+    }
+
+    public int bucketCount() {
+        return buckets.size() + summaries.size();
+    }
+
+    public int entryCount() {
+        int entries = 0;
+        for (CellScores bucket : buckets.values()) {
+            entries += bucket.size();
+        }
+        for (HeavyHitterBucket summary : summaries.values()) {
+            entries += summary.entryCount();
+        }
+        return entries;
+    }
+
+    public long sketchBytes() {
+        long bytes = 0;
+        for (HeavyHitterBucket summary : summaries.values()) {
+            bytes += summary.sketchBytes();
+        }
+        return bytes;
+    }
+}
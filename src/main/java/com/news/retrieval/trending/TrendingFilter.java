@@ -0,0 +1,46 @@
+package com.news.retrieval.trending;
+
+import java.util.Locale;
+
+/**
+ * Optional category or source restriction on a trending read. Each facet value has its
+ * own per-cell trending lists, kept under {@link #keyPrefix()} in front of the geo-cell,
+ * so a filtered read touches the same number of keys as an unfiltered one.
+ */
+public record TrendingFilter(String category, String source) {
+
+    public static final TrendingFilter NONE = new TrendingFilter(null, null);
+
+    private static final String CATEGORY_PREFIX = "cat:";
+    private static final String SOURCE_PREFIX = "src:";
+
+    public static TrendingFilter of(String category, String source) {
+        return new TrendingFilter(normalize(category), normalize(source));
+    }
+
+    public static String categoryPrefix(String category) {
+        return CATEGORY_PREFIX + normalize(category) + ":";
+    }
+
+    public static String sourcePrefix(String source) {
+        return SOURCE_PREFIX + normalize(source) + ":";
+    }
+
+    public boolean isUnfiltered() {
+        return category == null && source == null;
+    }
+
+    public String keyPrefix() {
+        if (category != null) {
+            return categoryPrefix(category);
+        }
+        return source != null ? sourcePrefix(source) : "";
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,159 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.config.NewsProperties;
+import com.news.retrieval.repository.TrendingScoreRepository;
+import com.news.retrieval.util.GeoUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists computed trending scores either one upsert per row or as
+ * set-based multi-row upserts built from {@code unnest} arrays. By default every chunk
+ * joins the scheduler's transaction, so a run is applied whole or not at all. Setting
+ * {@code news.trending.write-concurrency} above one opts into writing chunks concurrently,
+ * each in its own transaction: a failed chunk then leaves the others committed and
+ * readers see a mix of old and new scores until the next run rewrites them.
+ */
+@Component
+@Slf4j
+public class TrendingScoreWriter {
+
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final NewsProperties newsProperties;
+    private final TransactionTemplate chunkTransaction;
+    private final ExecutorService writeExecutor;
+
+    public TrendingScoreWriter(TrendingScoreRepository trendingScoreRepository,
+                               NewsProperties newsProperties,
+                               PlatformTransactionManager transactionManager) {
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.newsProperties = newsProperties;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int concurrency = Math.max(1, newsProperties.getTrending().getWriteConcurrency());
+        this.writeExecutor = concurrency > 1 ? Executors.newFixedThreadPool(concurrency) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writeExecutor == null) {
+            return;
+        }
+        log.info("Shutting down trending score write executor...");
+        writeExecutor.shutdown();
+        try {
+            if (!writeExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                writeExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writeExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int write(CellScores cellScores, String window) {
+        long start = System.nanoTime();
+        boolean bulk = newsProperties.getTrending().isBulkWriteEnabled();
+
+        int written = bulk ? writeBulk(cellScores, window) : writePerRow(cellScores, window);
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("Scheduler: Wrote {} {} trending scores using {} path in {} ms ({} rows/s).",
+                written, window, bulk ? "bulk" : "per-row",
+                Math.round(elapsedSeconds * 1000),
+                elapsedSeconds > 0 ? Math.round(written / elapsedSeconds) : written);
+        return written;
+    }
+
+    private int writePerRow(CellScores cellScores, String window) {
+        ArticleIdDictionary articles = cellScores.articles();
+        int[] written = {0};
+        cellScores.forEach((cellId, article, score) -> {
+            trendingScoreRepository.upsertScore(window, GeoUtils.toGeoCell(cellId), articles.articleId(article),
+                    roundScore(score));
+            written[0]++;
+        });
+        return written[0];
+    }
+
+    private int writeBulk(CellScores cellScores, String window) {
+        ArticleIdDictionary articles = cellScores.articles();
+        int chunkSize = newsProperties.getTrending().getWriteBatchSize();
+        List<CompletableFuture<Integer>> pending = new ArrayList<>();
+        BulkChunk[] chunk = {new BulkChunk(window, chunkSize)};
+
+        cellScores.forEach((cellId, article, score) -> {
+            chunk[0].add(GeoUtils.toGeoCell(cellId), articles.articleId(article), roundScore(score));
+            if (chunk[0].isFull()) {
+                pending.add(submit(chunk[0]));
+                chunk[0] = new BulkChunk(window, chunkSize);
+            }
+        });
+        if (chunk[0].size > 0) {
+            pending.add(submit(chunk[0]));
+        }
+
+        return pending.stream()
+                .mapToInt(CompletableFuture::join)
+                .sum();
+    }
+
+    private CompletableFuture<Integer> submit(BulkChunk chunk) {
+        if (writeExecutor == null) {
+            return CompletableFuture.completedFuture(chunk.flush());
+        }
+        return CompletableFuture.supplyAsync(() -> chunkTransaction.execute(status -> chunk.flush()), writeExecutor);
+    }
+
+    /**
+     * Precision of persisted scores; cached lists built from in-memory scores round the same way.
+     */
+    static double roundScore(double score) {
+        return Math.round(score * 1000.0) / 1000.0;
+    }
+
+    private class BulkChunk {
+        private final String window;
+        private final String[] geoCells;
+        private final String[] articleIds;
+        private final Double[] scores;
+        private int size;
+
+        BulkChunk(String window, int capacity) {
+            this.window = window;
+            geoCells = new String[capacity];
+            articleIds = new String[capacity];
+            scores = new Double[capacity];
+        }
+
+        void add(String geoCell, String articleId, double score) {
+            geoCells[size] = geoCell;
+            articleIds[size] = articleId;
+            scores[size] = score;
+            size++;
+        }
+
+        boolean isFull() {
+            return size == geoCells.length;
+        }
+
+        int flush() {
+            return isFull()
+                    ? trendingScoreRepository.bulkUpsertScores(window, geoCells, articleIds, scores)
+                    : trendingScoreRepository.bulkUpsertScores(window, Arrays.copyOf(geoCells, size),
+                            Arrays.copyOf(articleIds, size), Arrays.copyOf(scores, size));
+        }
+    }
+}
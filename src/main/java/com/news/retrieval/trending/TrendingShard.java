@@ -0,0 +1,62 @@
+package com.news.retrieval.trending;
+
+import com.news.retrieval.util.GeoUtils;
+
+/**
+ * A latitude band of geo-cells, {@code [minLatIndex, maxLatIndex)} in 0.1° rows.
+ * Band edges come from {@link ShardCoordinator} as event-density quantiles, so each
+ * shard covers a similar share of traffic. A shard owns the cells in its band but has
+ * to scan events from a halo around it, because scores and neighbourhoods near the
+ * band edge draw on events outside it.
+ */
+public record TrendingShard(int index, int shardCount, int minLatIndex, int maxLatIndex) {
+
+    private static final int LAT_ROWS = 2 * GeoUtils.MAX_LAT_INDEX + 1;
+
+    /**
+     * Shard {@code index} of {@code shardCount} equal-width bands.
+     */
+    public static TrendingShard of(int index, int shardCount) {
+        return of(index, equalBounds(shardCount));
+    }
+
+    /**
+     * Shard {@code index} of the bands delimited by {@code bounds}, which holds
+     * {@code shardCount + 1} ascending latitude indices.
+     */
+    public static TrendingShard of(int index, int[] bounds) {
+        return new TrendingShard(index, bounds.length - 1, bounds[index], bounds[index + 1]);
+    }
+
+    public static int[] equalBounds(int shardCount) {
+        int[] bounds = new int[shardCount + 1];
+        for (int k = 0; k <= shardCount; k++) {
+            bounds[k] = -GeoUtils.MAX_LAT_INDEX + (int) ((long) k * LAT_ROWS / shardCount);
+        }
+        return bounds;
+    }
+
+    public boolean owns(long cellId) {
+        int latIndex = GeoUtils.cellLatIndex(cellId);
+        return latIndex >= minLatIndex && latIndex < maxLatIndex;
+    }
+
+    public boolean isGlobal() {
+        return shardCount == 1;
+    }
+
+    /**
+     * Lowest event latitude that can affect this shard's cells or their neighbourhoods.
+     */
+    public double scanMinLatitude(double radiusKm) {
+        return isGlobal() ? -90 : Math.max(-90, (minLatIndex - 1) / (double) GeoUtils.CELLS_PER_DEGREE - haloDegrees(radiusKm));
+    }
+
+    public double scanMaxLatitude(double radiusKm) {
+        return isGlobal() ? 90 : Math.min(90, maxLatIndex / (double) GeoUtils.CELLS_PER_DEGREE + haloDegrees(radiusKm));
+    }
+
+    private static double haloDegrees(double radiusKm) {
+        return 2 * GeoUtils.latDeltaForRadius(radiusKm);
+    }
+}
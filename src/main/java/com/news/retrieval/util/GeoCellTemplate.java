@@ -0,0 +1,80 @@
+package com.news.retrieval.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Precomputed (latitude, longitude) index offsets of the cells whose centres lie
+ * within a radius of a cell centre. Offsets only depend on the latitude band, so
+ * they are computed once per band and reused for every point in it.
+ */
+public final class GeoCellTemplate {
+
+    private static final Map<Double, GeoCellTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final double radiusKm;
+    private final AtomicReferenceArray<int[]> offsetsByBand =
+            new AtomicReferenceArray<>(2 * GeoUtils.MAX_LAT_INDEX + 1);
+
+    private GeoCellTemplate(double radiusKm) {
+        this.radiusKm = radiusKm;
+    }
+
+    public static GeoCellTemplate forRadius(double radiusKm) {
+        return TEMPLATES.computeIfAbsent(radiusKm, GeoCellTemplate::new);
+    }
+
+    /**
+     * Returns offsets for cells around a cell in the given latitude band, packed as
+     * {@code [dLat0, dLon0, dLat1, dLon1, ...]}. The centre cell is always included.
+     */
+    public int[] offsets(int latIndex) {
+        int band = Math.max(-GeoUtils.MAX_LAT_INDEX, Math.min(GeoUtils.MAX_LAT_INDEX, latIndex))
+                + GeoUtils.MAX_LAT_INDEX;
+        int[] offsets = offsetsByBand.get(band);
+        if (offsets == null) {
+            offsets = computeOffsets(band - GeoUtils.MAX_LAT_INDEX);
+            offsetsByBand.set(band, offsets);
+        }
+        return offsets;
+    }
+
+    private int[] computeOffsets(int latIndex) {
+        double cellSize = 1.0 / GeoUtils.CELLS_PER_DEGREE;
+        double centreLat = latIndex * cellSize;
+        int latSteps = (int) Math.ceil(GeoUtils.latDeltaForRadius(radiusKm) * GeoUtils.CELLS_PER_DEGREE);
+
+        int[] offsets = new int[16];
+        offsets[0] = 0;
+        offsets[1] = 0;
+        int size = 2;
+
+        for (int dLat = -latSteps; dLat <= latSteps; dLat++) {
+            int rowIndex = latIndex + dLat;
+            if (Math.abs(rowIndex) > GeoUtils.MAX_LAT_INDEX) {
+                continue;
+            }
+            double rowLat = rowIndex * cellSize;
+            double widestLat = Math.min(89.9, Math.max(Math.abs(centreLat), Math.abs(rowLat)));
+            int lonSteps = (int) Math.min(GeoUtils.MAX_LON_INDEX,
+                    Math.ceil(GeoUtils.lonDeltaForRadius(widestLat, radiusKm) * GeoUtils.CELLS_PER_DEGREE));
+
+            int minLon = Math.max(-lonSteps, 1 - GeoUtils.MAX_LON_INDEX);
+            for (int dLon = minLon; dLon <= lonSteps; dLon++) {
+                if (dLat == 0 && dLon == 0) {
+                    continue;
+                }
+                if (GeoUtils.haversineDistance(centreLat, 0, rowLat, dLon * cellSize) <= radiusKm) {
+                    if (size + 2 > offsets.length) {
+                        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                    }
+                    offsets[size++] = dLat;
+                    offsets[size++] = dLon;
+                }
+            }
+        }
+        return Arrays.copyOf(offsets, size);
+    }
+}
@@ -1,8 +1,8 @@
 package com.news.retrieval.util;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 public final class GeoUtils {
@@ -11,6 +11,13 @@ public final class GeoUtils {
 
     private static final double KM_PER_DEGREE_LAT = 111.0;
 
+    public static final int CELLS_PER_DEGREE = 10;
+    public static final int MAX_LAT_INDEX = 90 * CELLS_PER_DEGREE;
+    static final int MAX_LON_INDEX = 180 * CELLS_PER_DEGREE;
+    private static final int LON_CELLS = 2 * MAX_LON_INDEX;
+    private static final int LON_BITS = 16;
+    private static final long LON_MASK = (1L << LON_BITS) - 1;
+
 
     private GeoUtils() {}
 
@@ -28,9 +35,46 @@ public final class GeoUtils {
 
 
     public static String toGeoCell(double lat, double lon) {
-        BigDecimal roundedLat = BigDecimal.valueOf(lat).setScale(1, RoundingMode.HALF_UP);
-        BigDecimal roundedLon = BigDecimal.valueOf(lon).setScale(1, RoundingMode.HALF_UP);
-        return roundedLat + "_" + roundedLon;
+        return toGeoCell(toCellId(lat, lon));
+    }
+
+    /**
+     * Packs a 0.1 degree cell into a long: the biased latitude index in the high bits
+     * and the biased longitude index in the low {@value #LON_BITS} bits. Ids are
+     * non-negative and fit in 32 bits.
+     */
+    public static long toCellId(double lat, double lon) {
+        return cellId(latIndex(lat), lonIndex(lon));
+    }
+
+    public static long cellId(int latIndex, int lonIndex) {
+        int lat = Math.max(-MAX_LAT_INDEX, Math.min(MAX_LAT_INDEX, latIndex));
+        int lon = Math.floorMod(lonIndex + MAX_LON_INDEX - 1, LON_CELLS) - MAX_LON_INDEX + 1;
+        return ((long) (lat + MAX_LAT_INDEX) << LON_BITS) | (lon + MAX_LON_INDEX);
+    }
+
+    public static int latIndex(double lat) {
+        return roundHalfUp(lat * CELLS_PER_DEGREE);
+    }
+
+    public static int lonIndex(double lon) {
+        return roundHalfUp(lon * CELLS_PER_DEGREE);
+    }
+
+    public static int cellLatIndex(long cellId) {
+        return (int) (cellId >>> LON_BITS) - MAX_LAT_INDEX;
+    }
+
+    public static int cellLonIndex(long cellId) {
+        return (int) (cellId & LON_MASK) - MAX_LON_INDEX;
+    }
+
+    public static String toGeoCell(long cellId) {
+        return BigDecimal.valueOf(cellLatIndex(cellId), 1) + "_" + BigDecimal.valueOf(cellLonIndex(cellId), 1);
+    }
+
+    private static int roundHalfUp(double scaled) {
+        return scaled >= 0 ? (int) Math.floor(scaled + 0.5) : -(int) Math.floor(-scaled + 0.5);
     }
 
 
@@ -42,22 +86,24 @@ public final class GeoUtils {
         return radiusKm / (KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat)));
     }
 
-    public static Set<String> getGeoCellsWithinRadius(double lat, double lon, double radiusKm) {
-        Set<String> cells = new HashSet<>();
-
-        double latDelta = latDeltaForRadius(radiusKm);
-        double lonDelta = lonDeltaForRadius(lat, radiusKm);
-
-        double cellSize = 0.1;
-        for (double currLat = lat - latDelta; currLat <= lat + latDelta; currLat += cellSize) {
-            for (double currLon = lon - lonDelta; currLon <= lon + lonDelta; currLon += cellSize) {
-                if (haversineDistance(lat, lon, currLat, currLon) <= radiusKm) {
-                    cells.add(toGeoCell(currLat, currLon));
-                }
-            }
+    public static long[] cellIdsWithinRadius(double lat, double lon, double radiusKm) {
+        int latIndex = latIndex(lat);
+        int lonIndex = lonIndex(lon);
+        int[] offsets = GeoCellTemplate.forRadius(radiusKm).offsets(latIndex);
+
+        long[] cells = new long[offsets.length / 2];
+        for (int i = 0, k = 0; k < offsets.length; i++, k += 2) {
+            cells[i] = cellId(latIndex + offsets[k], lonIndex + offsets[k + 1]);
         }
+        Arrays.sort(cells);
+        return cells;
+    }
 
-        cells.add(toGeoCell(lat, lon));
+    public static Set<String> getGeoCellsWithinRadius(double lat, double lon, double radiusKm) {
+        Set<String> cells = new LinkedHashSet<>();
+        for (long cellId : cellIdsWithinRadius(lat, lon, radiusKm)) {
+            cells.add(toGeoCell(cellId));
+        }
         return cells;
     }
 }
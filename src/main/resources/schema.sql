@@ -0,0 +1,20 @@
+-- Runs after Hibernate's schema update (spring.jpa.defer-datasource-initialization), so every statement is idempotent.
+
+-- trending_scores is keyed per trending window since the window_name column was added.
+ALTER TABLE trending_scores DROP CONSTRAINT IF EXISTS uk_geo_cell_article;
+DROP INDEX IF EXISTS idx_ts_geo_cell_score;
+
+-- Weighted full-text document (title above description), kept current by PostgreSQL on every insert and update.
+ALTER TABLE news_articles ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(title, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(description, '')), 'B')
+    ) STORED;
+CREATE INDEX IF NOT EXISTS idx_news_articles_search_vector ON news_articles USING GIN (search_vector);
+
+-- Trigram indexes let '%term%' substring matches on these expressions use a GIN index instead of a sequential scan.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_news_articles_title_trgm ON news_articles USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_news_articles_description_trgm ON news_articles USING GIN (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_news_articles_source_name_trgm ON news_articles USING GIN (lower(source_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_categories_name_trgm ON categories USING GIN (lower(name) gin_trgm_ops);